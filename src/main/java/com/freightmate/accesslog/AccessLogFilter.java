@@ -0,0 +1,110 @@
+package com.freightmate.accesslog;
+
+import com.freightmate.tracing.TracingFilter;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AccessLogFilter records one access log entry per request. Errors, timeouts and writes are always
+ *    recorded; successful reads are sampled with freightmate.access-log.success-sample-rate since they are the bulk of
+ *    the traffic. Asynchronous requests are recorded once the response is complete.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogWriter writer;
+    private final double successSampleRate;
+    private final DoubleSupplier random;
+
+    public AccessLogFilter(AccessLogWriter writer, double successSampleRate) {
+        this(writer, successSampleRate, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    AccessLogFilter(AccessLogWriter writer, double successSampleRate, DoubleSupplier random) {
+        this.writer = writer;
+        this.successSampleRate = successSampleRate;
+        this.random = random;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        Throwable error = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            if (error == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordingListener(request, response, startMillis, startNanos));
+            } else {
+                record(request, response, startMillis, startNanos, error);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long startMillis, long startNanos,
+                        Throwable error) {
+        int status = error == null ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        if (error == null && status < 400 && HttpMethod.GET.matches(request.getMethod())
+                && random.getAsDouble() >= successSampleRate) {
+            return;
+        }
+        writer.append(new AccessLogRecord(startMillis, request.getMethod(), request.getRequestURI(),
+                request.getQueryString(), status, (System.nanoTime() - startNanos) / 1000,
+                response.getHeader(TracingFilter.TRACE_ID_HEADER), error == null ? null : error.getClass().getName()));
+    }
+
+    /**
+     * @implNote RecordingListener records an asynchronous request once its response is complete.
+     */
+    private final class RecordingListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startMillis;
+        private final long startNanos;
+        private Throwable error;
+
+        private RecordingListener(HttpServletRequest request, HttpServletResponse response, long startMillis,
+                                  long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.startMillis = startMillis;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, startMillis, startNanos, error);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // The timeout is answered with an error status, which is always recorded
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            error = event.getThrowable();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Recorded once the request completes
+        }
+    }
+}
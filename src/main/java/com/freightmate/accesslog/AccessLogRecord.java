@@ -0,0 +1,62 @@
+package com.freightmate.accesslog;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AccessLogRecord the compact record kept for one request until it is written. Formatting is left to the
+ *    writer thread.
+ */
+public final class AccessLogRecord {
+
+    private final long epochMillis;
+    private final String method;
+    private final String uri;
+    private final String query;
+    private final int status;
+    private final long durationMicros;
+    private final String traceId;
+    private final String error;
+
+    public AccessLogRecord(long epochMillis, String method, String uri, String query, int status, long durationMicros,
+                           String traceId, String error) {
+        this.epochMillis = epochMillis;
+        this.method = method;
+        this.uri = uri;
+        this.query = query;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.traceId = traceId;
+        this.error = error;
+    }
+
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
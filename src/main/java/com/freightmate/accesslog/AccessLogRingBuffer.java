@@ -0,0 +1,91 @@
+package com.freightmate.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AccessLogRingBuffer bounded lock-free ring buffer with many producers and one consumer. Request threads
+ *    claim a slot with a compare-and-set on the tail and never wait: when the buffer is full the record is refused.
+ *    Every slot carries a sequence number telling whether it is free for the producer of a position or holds a record
+ *    for the consumer.
+ */
+public class AccessLogRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<AccessLogRecord> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * @param capacity: passing capacity parameter, rounded up to a power of two
+     */
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @param accessLogRecord: passing accessLogRecord parameter
+     * Description : To add a record, returns false without waiting when the buffer is full. Safe to call from any
+     *    thread.
+     */
+    public boolean offer(AccessLogRecord accessLogRecord) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, accessLogRecord);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @param consumer: passing consumer parameter
+     * @param maxRecords: passing maxRecords parameter
+     * Description : To hand up to maxRecords records to the consumer in the order they were added. Must only be
+     *    called from a single thread.
+     */
+    public int drainTo(Consumer<AccessLogRecord> consumer, int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            AccessLogRecord accessLogRecord = slots.get(index);
+            slots.set(index, null);
+            sequences.set(index, head + capacity);
+            head++;
+            drained++;
+            consumer.accept(accessLogRecord);
+        }
+        return drained;
+    }
+}
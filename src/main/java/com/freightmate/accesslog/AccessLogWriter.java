@@ -0,0 +1,205 @@
+package com.freightmate.accesslog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AccessLogWriter appends access log records to freightmate.access-log.file, one JSON object per line.
+ *    Request threads only put a record in the ring buffer; a background thread drains it in batches, formats the
+ *    records and flushes the file once per batch. When the buffer is full records are dropped and counted rather than
+ *    slowing requests down.
+ */
+@Component
+public class AccessLogWriter implements MeterBinder {
+
+    private static final int BATCH_SIZE = 512;
+
+    private final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    private final Path file;
+    private final AccessLogRingBuffer buffer;
+    private final long flushIntervalNanos;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread flusher;
+    private BufferedWriter out;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public AccessLogWriter(@Value("${freightmate.access-log.file:access.jsonl}") String file,
+                           @Value("${freightmate.access-log.buffer-capacity:8192}") int bufferCapacity,
+                           @Value("${freightmate.access-log.flush-interval-ms:200}") long flushIntervalMs) {
+        this.file = Path.of(file);
+        this.buffer = new AccessLogRingBuffer(bufferCapacity);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushRecords, "access-log-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * @param accessLogRecord: passing accessLogRecord parameter
+     * Description : To queue a record for writing without blocking the calling thread.
+     */
+    public void append(AccessLogRecord accessLogRecord) {
+        if (!buffer.offer(accessLogRecord)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("freightmate.access-log.records", written, AtomicLong::get)
+                .tag("result", "written")
+                .description("Access log records written to the access log file")
+                .register(registry);
+        FunctionCounter.builder("freightmate.access-log.records", dropped, AtomicLong::get)
+                .tag("result", "dropped")
+                .description("Access log records dropped because the writer fell behind")
+                .register(registry);
+    }
+
+    private void flushRecords() {
+        while (true) {
+            boolean stopping = !running;
+            int drained = flush();
+            if (drained == 0) {
+                if (stopping) {
+                    break;
+                }
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        closeFile();
+    }
+
+    /**
+     * Description : To write one batch from the buffer, returns the number of records taken from it. Only called by
+     *    the flusher thread, and by tests while it is stopped.
+     */
+    int flush() {
+        int[] failed = new int[1];
+        int drained = buffer.drainTo(accessLogRecord -> {
+            try {
+                openFile().write(toJson(accessLogRecord));
+                out.newLine();
+            } catch (IOException e) {
+                failed[0]++;
+            }
+        }, BATCH_SIZE);
+        if (drained == 0) {
+            return 0;
+        }
+        try {
+            if (out != null) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            failed[0] = drained;
+        }
+        if (failed[0] > 0) {
+            dropped.addAndGet(failed[0]);
+            logger.warn("Could not write {} access log records to {}", failed[0], file);
+            closeFile();
+        }
+        written.addAndGet(drained - failed[0]);
+        return drained;
+    }
+
+    private BufferedWriter openFile() throws IOException {
+        if (out == null) {
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return out;
+    }
+
+    private void closeFile() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warn("Could not close {}: {}", file, e.getMessage());
+        }
+        out = null;
+    }
+
+    static String toJson(AccessLogRecord accessLogRecord) {
+        StringBuilder json = new StringBuilder(192)
+                .append("{\"timestamp\":\"").append(Instant.ofEpochMilli(accessLogRecord.getEpochMillis()))
+                .append("\",\"method\":\"").append(accessLogRecord.getMethod())
+                .append("\",\"uri\":");
+        appendString(json, accessLogRecord.getUri());
+        if (accessLogRecord.getQuery() != null) {
+            json.append(",\"query\":");
+            appendString(json, accessLogRecord.getQuery());
+        }
+        json.append(",\"status\":").append(accessLogRecord.getStatus())
+                .append(",\"durationMicros\":").append(accessLogRecord.getDurationMicros());
+        if (accessLogRecord.getTraceId() != null) {
+            json.append(",\"traceId\":\"").append(accessLogRecord.getTraceId()).append('"');
+        }
+        if (accessLogRecord.getError() != null) {
+            json.append(",\"error\":");
+            appendString(json, accessLogRecord.getError());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
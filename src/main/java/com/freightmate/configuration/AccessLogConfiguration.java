@@ -0,0 +1,30 @@
+package com.freightmate.configuration;
+
+import com.freightmate.accesslog.AccessLogFilter;
+import com.freightmate.accesslog.AccessLogWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Access Log Configuration class, sampling of successful reads is set with
+ *    freightmate.access-log.success-sample-rate.
+ */
+@Configuration
+public class AccessLogConfiguration {
+
+    /**
+     * Description : Records each request right inside the tracing filter, so the trace id is already on the response.
+     */
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogWriter accessLogWriter,
+            @Value("${freightmate.access-log.success-sample-rate:0.05}") double successSampleRate) {
+        FilterRegistrationBean<AccessLogFilter> registration =
+                new FilterRegistrationBean<>(new AccessLogFilter(accessLogWriter, successSampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,85 @@
+package com.freightmate.configuration;
+
+import com.freightmate.datasource.ReadWriteRoutingDataSource;
+import com.freightmate.datasource.ReadYourWritesFilter;
+import com.freightmate.datasource.ReadYourWritesTracker;
+import com.freightmate.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Data source routing Configuration class, enabled with freightmate.datasource.routing.enabled=true.
+ *    spring.datasource.* stays the primary, freightmate.datasource.replicas[n].* list the read replicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "freightmate.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfiguration {
+
+    /**
+     * Description : The primary pool, configured like the default pool from spring.datasource.*.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Description : One pool per read replica, health checked in the background.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(DataSourceProperties dataSourceProperties, ReplicaDataSourceProperties replicaProperties) {
+        List<ReplicaPool.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica settings = replicaProperties.getReplicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(settings.getUrl());
+            dataSource.setUsername(settings.getUsername() != null ? settings.getUsername() : dataSourceProperties.determineUsername());
+            dataSource.setPassword(settings.getPassword() != null ? settings.getPassword() : dataSourceProperties.determinePassword());
+            dataSource.setMaximumPoolSize(settings.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.add(new ReplicaPool.Replica(dataSource.getPoolName(), dataSource));
+        }
+        ReplicaPool replicaPool = new ReplicaPool(replicas, replicaProperties.getSelection());
+        if (!replicas.isEmpty()) {
+            replicaPool.start(replicaProperties.getHealthCheckIntervalMs());
+        }
+        return replicaPool;
+    }
+
+    /**
+     * Description : The data source used by JPA, routing read-only transactions to the replicas.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaPool, readYourWritesTracker));
+    }
+
+    /**
+     * Description : Binds the calling client to each request for read-your-writes routing.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesTracker));
+    }
+}
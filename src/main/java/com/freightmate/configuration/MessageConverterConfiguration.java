@@ -0,0 +1,38 @@
+package com.freightmate.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Message converter Configuration class. Registers the CBOR and Smile binary encodings next to JSON for
+ *    every endpoint, configured like the JSON ObjectMapper, so callers choose one with the Accept header.
+ */
+@Configuration
+public class MessageConverterConfiguration {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * @param builder: passing the builder of the application's ObjectMapper
+     * Description : Encodes responses as CBOR for Accept: application/cbor.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * @param builder: passing the builder of the application's ObjectMapper
+     * Description : Encodes responses as Smile for Accept: application/x-jackson-smile.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.freightmate.configuration;
+
+import com.freightmate.datasource.ReplicaPool;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReplicaDataSourceProperties read replica settings bound from freightmate.datasource.*
+ */
+@Data
+@ConfigurationProperties(prefix = "freightmate.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private ReplicaPool.Selection selection = ReplicaPool.Selection.ROUND_ROBIN;
+
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote Connection settings of one read replica, username and password default to the primary's.
+     */
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -1,8 +1,12 @@
 package com.freightmate.configuration;
 
 
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
@@ -10,8 +14,11 @@ import springfox.documentation.service.ApiInfo;
 import springfox.documentation.service.Contact;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.WebMvcRequestHandlerProvider;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
+import java.util.stream.Collectors;
+
 /**
  * @author Hrishikesh.Lotekar
  * @implNote Swagger Configuration class
@@ -32,6 +39,29 @@ public class SwaggerConfiguration {
     }
 
 
+    /**
+     * Description : Springfox 2 only understands handler mappings matching with AntPathMatcher. The actuator
+     *    endpoints are mapped with a PathPatternParser, so the request handler provider is replaced with one built
+     *    from the remaining handler mappings.
+     * @param handlerMappings: passing handlerMappings parameter
+     */
+    @Bean
+    public static BeanPostProcessor springfoxHandlerProviderBeanPostProcessor(
+            ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof WebMvcRequestHandlerProvider) {
+                    return new WebMvcRequestHandlerProvider(handlerMappings.orderedStream()
+                            .filter(mapping -> mapping.getPatternParser() == null)
+                            .collect(Collectors.toList()));
+                }
+                return bean;
+            }
+        };
+    }
+
+
     /**
      * Description : contains custom information about the API:.
      */
@@ -0,0 +1,54 @@
+package com.freightmate.configuration;
+
+import com.freightmate.tracing.Tracer;
+import com.freightmate.tracing.TracingDataSource;
+import com.freightmate.tracing.TracingFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Tracing Configuration class, sampling is set with freightmate.tracing.sample-rate.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Description : Starts the root span of each request ahead of the other filters.
+     */
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Description : Traces connection acquisition on the data source JPA uses. With replica routing the routing
+     *    data source behind the lazy connection proxy is traced, where connections are actually taken.
+     */
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor(ObjectProvider<Tracer> tracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                if (bean instanceof LazyConnectionDataSourceProxy lazyConnectionDataSourceProxy) {
+                    lazyConnectionDataSourceProxy.setTargetDataSource(
+                            new TracingDataSource(lazyConnectionDataSourceProxy.getTargetDataSource(), tracer::getObject));
+                    return bean;
+                }
+                return new TracingDataSource(dataSource, tracer::getObject);
+            }
+        };
+    }
+}
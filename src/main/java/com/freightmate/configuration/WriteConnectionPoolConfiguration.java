@@ -0,0 +1,57 @@
+package com.freightmate.configuration;
+
+import com.freightmate.datasource.WriteConnectionPool;
+import com.freightmate.datasource.WriteRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Write connection pool Configuration class, the pool size is set with freightmate.bulkhead.write.pool-size.
+ */
+@Configuration
+public class WriteConnectionPoolConfiguration {
+
+    /**
+     * Description : Hands the write threads connections from their own pool on the data source JPA uses. With
+     *    replica routing the routing data source behind the lazy connection proxy is wrapped. Runs ahead of the
+     *    tracing post processor, so taking a write connection is traced too.
+     */
+    @Bean
+    public static BeanPostProcessor writeRoutingDataSourcePostProcessor(ObjectProvider<WriteConnectionPool> writeConnectionPool) {
+        return new WriteRoutingDataSourcePostProcessor(writeConnectionPool);
+    }
+
+    private static class WriteRoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<WriteConnectionPool> writeConnectionPool;
+
+        WriteRoutingDataSourcePostProcessor(ObjectProvider<WriteConnectionPool> writeConnectionPool) {
+            this.writeConnectionPool = writeConnectionPool;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            if (bean instanceof LazyConnectionDataSourceProxy lazyConnectionDataSourceProxy) {
+                lazyConnectionDataSourceProxy.setTargetDataSource(new WriteRoutingDataSource(
+                        lazyConnectionDataSourceProxy.getTargetDataSource(), writeConnectionPool.getObject()));
+                return bean;
+            }
+            return new WriteRoutingDataSource(dataSource, writeConnectionPool.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
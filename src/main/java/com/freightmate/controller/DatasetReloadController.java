@@ -0,0 +1,94 @@
+package com.freightmate.controller;
+
+import static com.freightmate.configuration.MessageConverterConfiguration.APPLICATION_SMILE_VALUE;
+
+import com.freightmate.dto.DatasetReloadReport;
+import com.freightmate.exception.UnauthorizedException;
+import com.freightmate.lookup.SuburbPostcodeLookupLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Rest Controller for reloading the in-memory suburb and postcode dataset without a restart. Requests
+ *    must carry the freightmate.dataset.reload-token in the X-Admin-Token header; without a configured token the
+ *    endpoint refuses every request.
+ */
+@RestController
+@RequestMapping("/api/v1/dataset")
+public class DatasetReloadController {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    /**
+     * Async timeout of a reload; it is answered once the swap is done, however long the dataset takes to build.
+     */
+    private static final long NO_TIMEOUT = 0L;
+
+    private final SuburbPostcodeLookupLoader suburbPostcodeLookupLoader;
+    private final byte[] reloadToken;
+    private final Logger logger = LoggerFactory.getLogger(DatasetReloadController.class);
+
+    /**
+     * @param suburbPostcodeLookupLoader: passing suburbPostcodeLookupLoader parameter
+     * @param reloadToken: passing reloadToken parameter
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public DatasetReloadController(SuburbPostcodeLookupLoader suburbPostcodeLookupLoader,
+                                   @Value("${freightmate.dataset.reload-token:}") String reloadToken) {
+        this.suburbPostcodeLookupLoader = suburbPostcodeLookupLoader;
+        this.reloadToken = reloadToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param source: passing source parameter, either "database" or "file"
+     * @param file: passing name of the file in the reload directory to load when source is "file"
+     * @param token: passing token parameter from the X-Admin-Token header
+     * Description : To build a new dataset in the background and swap it in, responds once the swap is done.
+     *    A file reload only replaces the in-memory copy, the database is left unchanged.
+     */
+    @PostMapping(value = "/reload",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public DeferredResult<ResponseEntity<DatasetReloadReport>> reload(@RequestParam(defaultValue = "database") String source,
+                                                                      @RequestParam(required = false) String file,
+                                                                      @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token) {
+        if (reloadToken.length == 0 || token == null
+                || !MessageDigest.isEqual(reloadToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException("A valid " + ADMIN_TOKEN_HEADER + " header is required to reload the dataset.");
+        }
+        logger.info("Received request to reload dataset from {}", source);
+
+        CompletableFuture<DatasetReloadReport> report;
+        if ("database".equals(source)) {
+            report = suburbPostcodeLookupLoader.reloadFromDatabase();
+        } else if ("file".equals(source)) {
+            if (file == null || file.isBlank()) {
+                throw new IllegalArgumentException("A file name is required to reload from a file.");
+            }
+            report = suburbPostcodeLookupLoader.reloadFromFile(file);
+        } else {
+            throw new IllegalArgumentException("Reload source must be database or file.");
+        }
+
+        DeferredResult<ResponseEntity<DatasetReloadReport>> result = new DeferredResult<>(NO_TIMEOUT);
+        report.whenComplete((body, failure) -> {
+            if (failure == null) {
+                result.setResult(new ResponseEntity<>(body, HttpStatus.OK));
+            } else {
+                result.setErrorResult(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+            }
+        });
+        return result;
+    }
+}
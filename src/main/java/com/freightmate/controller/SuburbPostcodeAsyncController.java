@@ -0,0 +1,96 @@
+package com.freightmate.controller;
+
+import static com.freightmate.configuration.MessageConverterConfiguration.APPLICATION_SMILE_VALUE;
+
+import com.freightmate.dto.SuburbNameInfo;
+import com.freightmate.exception.ServiceUnavailableException;
+import com.freightmate.resilience.StaleResultMarker;
+import com.freightmate.service.LookupResult;
+import com.freightmate.service.SuburbPostcodeServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Rest Controller for the non-blocking Suburb and Postcode lookups. Responses are the same as under
+ *    /api/v1, but the request thread is released straight away and lookups the in-memory index can not answer
+ *    wait for the database in the lookup bulkhead instead of on a request thread. A lookup still waiting after
+ *    freightmate.async.lookup-timeout-ms is answered with a 503.
+ */
+@RestController
+@RequestMapping("/api/v1/async")
+public class SuburbPostcodeAsyncController {
+    private final SuburbPostcodeServiceImpl suburbPostcodeService;
+    private final long lookupTimeoutMillis;
+
+    /**
+     * @param suburbPostcodeService: passing suburbPostcodeService parameter
+     * @param lookupTimeoutMillis: passing lookupTimeoutMillis parameter
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public SuburbPostcodeAsyncController(SuburbPostcodeServiceImpl suburbPostcodeService,
+                                         @Value("${freightmate.async.lookup-timeout-ms:10000}") long lookupTimeoutMillis) {
+        this.suburbPostcodeService = suburbPostcodeService;
+        this.lookupTimeoutMillis = lookupTimeoutMillis;
+    }
+
+    /**
+     * @param postcode: passing Postcode parameter
+     * Description : To Fetch the Suburbs details using postcode.
+     */
+    @GetMapping(value = "/suburbs/{postcode}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public DeferredResult<ResponseEntity<List<SuburbNameInfo>>> getSuburbsByPostcode(@PathVariable("postcode") int postcode) {
+        return toDeferredResult(suburbPostcodeService.findSuburbsByPostcode(postcode));
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * Description : To Fetch the Postcode details using Suburb Name
+     */
+    @GetMapping(value = "/postcodes",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public DeferredResult<ResponseEntity<List<Integer>>> getPostcodesBySuburb(@RequestParam String suburbName) {
+        return toDeferredResult(suburbPostcodeService.findPostcodesBySuburb(suburbName));
+    }
+
+    /**
+     * @param pending: passing the future of a lookup
+     * Description : To answer with the lookup once it completes, or with a 503 once the lookup timeout passes.
+     */
+    private <T> DeferredResult<ResponseEntity<T>> toDeferredResult(CompletableFuture<LookupResult<T>> pending) {
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>(lookupTimeoutMillis);
+        result.onTimeout(() -> result.setErrorResult(new ServiceUnavailableException("Lookup timed out.", 1)));
+        pending.whenComplete((lookup, failure) -> {
+            if (failure == null) {
+                result.setResult(toResponse(lookup));
+            } else {
+                result.setErrorResult(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @param result: passing result parameter
+     * Description : To build the response, marking results served from last known good results as stale.
+     */
+    private static <T> ResponseEntity<T> toResponse(LookupResult<T> result) {
+        HttpHeaders headers = new HttpHeaders();
+        if (result.isStale()) {
+            headers.set(StaleResultMarker.STALE_HEADER, "true");
+            headers.setCacheControl(CacheControl.noStore());
+        }
+        return new ResponseEntity<>(result.getValue(), headers, HttpStatus.OK);
+    }
+}
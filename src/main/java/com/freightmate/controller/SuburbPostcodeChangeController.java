@@ -0,0 +1,62 @@
+package com.freightmate.controller;
+
+import static com.freightmate.configuration.MessageConverterConfiguration.APPLICATION_SMILE_VALUE;
+
+import com.freightmate.dto.SuburbPostcodeChange;
+import com.freightmate.service.SuburbPostcodeChangeFeed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Rest Controller streaming new suburb and postcode combinations to other services
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class SuburbPostcodeChangeController {
+    private final SuburbPostcodeChangeFeed suburbPostcodeChangeFeed;
+    private final long streamTimeoutMillis;
+    private final long pollTimeoutMillis;
+
+    /**
+     * @param suburbPostcodeChangeFeed: passing suburbPostcodeChangeFeed parameter
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public SuburbPostcodeChangeController(SuburbPostcodeChangeFeed suburbPostcodeChangeFeed,
+                                          @Value("${freightmate.changes.stream-timeout-ms:1800000}") long streamTimeoutMillis,
+                                          @Value("${freightmate.changes.poll-timeout-ms:30000}") long pollTimeoutMillis) {
+        this.suburbPostcodeChangeFeed = suburbPostcodeChangeFeed;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+    }
+
+    /**
+     * @param lastEventId: passing the Last-Event-ID header sent by reconnecting EventSource clients
+     * @param since: passing the id of the last change already seen, replaying starts after it
+     * Description : To stream new combinations as Server-Sent Events, the event id is the change id. Springfox
+     *    fails to start when two handlers of one path have parameters matching by name, position and type, so
+     *    since must not come first as it does in pollChanges.
+     */
+    @GetMapping(value = "/suburbs/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                    @RequestParam(required = false) String since) {
+        return suburbPostcodeChangeFeed.subscribe(since != null ? since : lastEventId, streamTimeoutMillis);
+    }
+
+    /**
+     * @param since: passing the id of the last change already seen, 0 when none was seen yet
+     * Description : To long-poll for combinations added after the id. Answers 410 Gone when the id can not be
+     *    resumed from and the dataset has to be downloaded again.
+     */
+    @GetMapping(value = "/suburbs/changes",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> pollChanges(@RequestParam String since) {
+        return suburbPostcodeChangeFeed.poll(since, pollTimeoutMillis);
+    }
+}
@@ -0,0 +1,66 @@
+package com.freightmate.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote BulkConnectionPool small connection pool of its own for bulk jobs such as dataset reloads, so a long
+ *    running scan of the whole table never holds a connection lookups or writes are waiting for. It connects
+ *    to the database configured under spring.datasource.* and is not a DataSource bean, so JPA keeps using the
+ *    main pool.
+ */
+@Component
+public class BulkConnectionPool {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    @Autowired
+    public BulkConnectionPool(DataSourceProperties dataSourceProperties,
+                              @Value("${freightmate.bulkhead.bulk.pool-size:2}") int poolSize,
+                              @Value("${freightmate.bulkhead.bulk.fetch-size:1000}") int fetchSize) {
+        HikariDataSource hikariDataSource = new HikariDataSource();
+        hikariDataSource.setPoolName("bulk");
+        hikariDataSource.setJdbcUrl(dataSourceProperties.determineUrl());
+        hikariDataSource.setUsername(dataSourceProperties.determineUsername());
+        hikariDataSource.setPassword(dataSourceProperties.determinePassword());
+        hikariDataSource.setMaximumPoolSize(poolSize);
+        hikariDataSource.setMinimumIdle(0);
+        hikariDataSource.setReadOnly(true);
+        this.dataSource = hikariDataSource;
+        this.jdbcTemplate = createJdbcTemplate(hikariDataSource, fetchSize);
+    }
+
+    public BulkConnectionPool(DataSource dataSource, int fetchSize) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = createJdbcTemplate(dataSource, fetchSize);
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+
+    private static JdbcTemplate createJdbcTemplate(DataSource dataSource, int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        return jdbcTemplate;
+    }
+}
@@ -0,0 +1,53 @@
+package com.freightmate.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReadWriteRoutingDataSource sends connections of read-only transactions to a replica and all
+ *    other connections to the primary. Reads of a client that wrote within the read-your-writes window, and
+ *    reads while no replica is healthy, go to the primary. Must be wrapped in a LazyConnectionDataSourceProxy
+ *    so the connection is only fetched once the transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readsFromReplica()) {
+            ReplicaPool.Replica replica = replicaPool.select();
+            if (replica != null) {
+                try {
+                    return replica.getDataSource().getConnection();
+                } catch (SQLException e) {
+                    replicaPool.markUnhealthy(replica, e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private boolean readsFromReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !readYourWritesTracker.mustReadPrimary();
+    }
+}
@@ -0,0 +1,59 @@
+package com.freightmate.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReadYourWritesFilter binds the calling client to the request thread, identified by the
+ *    X-Client-Id header, else by the original client address a gateway forwards in X-Forwarded-For, and only
+ *    then by the remote address. Behind a gateway that sends neither, every client shares the gateway's address
+ *    and one write sends all of their reads to the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        readYourWritesTracker.bindClient(clientIdOf(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.clearClient();
+        }
+    }
+
+    /**
+     * @param request: passing request parameter
+     * Description : To identify the client of a request for read-your-writes routing.
+     */
+    static String clientIdOf(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return clientId;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor != null) {
+            // The first entry is the client, the others are the proxies it went through
+            String client = forwardedFor.split(",", 2)[0].trim();
+            if (!client.isEmpty()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,88 @@
+package com.freightmate.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReadYourWritesTracker remembers which clients wrote recently so their reads are sent to the
+ *    primary until the replicas have had time to catch up. The client of the current request is bound by
+ *    {@link ReadYourWritesFilter}; without a bound client nothing is tracked. As a TaskDecorator it carries
+ *    the client over to work handed to other threads.
+ */
+@Component
+public class ReadYourWritesTracker implements TaskDecorator {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public ReadYourWritesTracker(@Value("${freightmate.datasource.read-your-writes-window-ms:5000}") long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    /**
+     * @param clientId: passing clientId parameter
+     * Description : To bind the client of the request handled by the current thread.
+     */
+    public void bindClient(String clientId) {
+        currentClient.set(clientId);
+    }
+
+    public void clearClient() {
+        currentClient.remove();
+    }
+
+    /**
+     * Description : To record that the current client has just written.
+     */
+    public void recordWrite() {
+        String clientId = currentClient.get();
+        if (clientId == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastWriteNanos.size() > CLEANUP_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+        lastWriteNanos.put(clientId, now);
+    }
+
+    /**
+     * Description : To check whether the current client wrote within the read-your-writes window.
+     */
+    public boolean mustReadPrimary() {
+        String clientId = currentClient.get();
+        if (clientId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(clientId);
+        return writtenAt != null && System.nanoTime() - writtenAt <= windowNanos;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String clientId = currentClient.get();
+        if (clientId == null) {
+            return runnable;
+        }
+        return () -> {
+            currentClient.set(clientId);
+            try {
+                runnable.run();
+            } finally {
+                currentClient.remove();
+            }
+        };
+    }
+}
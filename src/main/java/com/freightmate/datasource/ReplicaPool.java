@@ -0,0 +1,156 @@
+package com.freightmate.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReplicaPool read replicas with periodic health checks. A replica that fails a health check, or
+ *    fails to hand out a connection, is skipped until a later health check succeeds. Healthy replicas are
+ *    picked round-robin or by the lowest health check latency.
+ */
+public class ReplicaPool implements Closeable {
+
+    public enum Selection { ROUND_ROBIN, LEAST_LATENCY }
+
+    private final Logger logger = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(List<Replica> replicas, Selection selection) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+    }
+
+    /**
+     * @param intervalMillis: passing intervalMillis parameter
+     * Description : To start checking the replicas in the background.
+     */
+    public void start(long intervalMillis) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Description : To validate a connection of every replica and record its latency.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            long start = System.nanoTime();
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(2)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                replica.recordLatency(System.nanoTime() - start);
+                if (!replica.healthy) {
+                    logger.info("Replica {} is healthy again", replica.name);
+                }
+                replica.healthy = true;
+            } catch (SQLException | RuntimeException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+    }
+
+    /**
+     * Description : To pick a healthy replica, null when none is healthy.
+     */
+    public Replica select() {
+        if (selection == Selection.LEAST_LATENCY) {
+            Replica best = null;
+            for (Replica replica : replicas) {
+                if (replica.healthy && (best == null || replica.latencyNanos < best.latencyNanos)) {
+                    best = replica;
+                }
+            }
+            return best;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param replica: passing replica parameter
+     * @param cause: passing cause parameter
+     * Description : To take a replica out of rotation until its next successful health check.
+     */
+    public void markUnhealthy(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            logger.warn("Replica {} is unhealthy: {}", replica.name, cause.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote A read replica and its last known health.
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long latencyNanos;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        private void recordLatency(long sampleNanos) {
+            latencyNanos = latencyNanos == 0 ? sampleNanos : (latencyNanos * 4 + sampleNanos) / 5;
+        }
+    }
+}
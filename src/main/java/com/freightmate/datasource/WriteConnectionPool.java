@@ -0,0 +1,79 @@
+package com.freightmate.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote WriteConnectionPool small connection pool of its own for inserts, so a burst of lookups that miss the
+ *    in-memory index never holds the connections writes are waiting for, and the other way round. It connects to
+ *    the database configured under spring.datasource.* and is not a DataSource bean: JPA keeps its data source,
+ *    and WriteRoutingDataSource hands out connections from this pool to threads marked as writers.
+ */
+@Component
+public class WriteConnectionPool {
+
+    private final DataSource dataSource;
+    private final ThreadLocal<Boolean> writer = new ThreadLocal<>();
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    @Autowired
+    public WriteConnectionPool(DataSourceProperties dataSourceProperties,
+                               @Value("${freightmate.bulkhead.write.pool-size:2}") int poolSize,
+                               @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMillis) {
+        HikariDataSource hikariDataSource = new HikariDataSource();
+        hikariDataSource.setPoolName("write");
+        hikariDataSource.setJdbcUrl(dataSourceProperties.determineUrl());
+        hikariDataSource.setUsername(dataSourceProperties.determineUsername());
+        hikariDataSource.setPassword(dataSourceProperties.determinePassword());
+        hikariDataSource.setMaximumPoolSize(poolSize);
+        hikariDataSource.setMinimumIdle(0);
+        hikariDataSource.setConnectionTimeout(connectionTimeoutMillis);
+        this.dataSource = hikariDataSource;
+    }
+
+    public WriteConnectionPool(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Description : Whether the current thread takes its connections from this pool.
+     */
+    public boolean isWriterThread() {
+        return writer.get() != null;
+    }
+
+    /**
+     * @param task: passing task parameter
+     * Description : To run a task with the current thread marked as a writer.
+     */
+    public Runnable asWriter(Runnable task) {
+        return () -> {
+            writer.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                writer.remove();
+            }
+        };
+    }
+
+    @PreDestroy
+    public void close() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.freightmate.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote WriteRoutingDataSource takes the connections of writer threads from the WriteConnectionPool and all
+ *    other connections from the data source it wraps. Writes still go through JPA, so the second level and query
+ *    caches see them as before.
+ */
+public class WriteRoutingDataSource extends DelegatingDataSource {
+
+    private final WriteConnectionPool writeConnectionPool;
+
+    /**
+     * @param targetDataSource: passing the data source of every other thread
+     * @param writeConnectionPool: passing writeConnectionPool parameter
+     */
+    public WriteRoutingDataSource(DataSource targetDataSource, WriteConnectionPool writeConnectionPool) {
+        super(targetDataSource);
+        this.writeConnectionPool = writeConnectionPool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (writeConnectionPool.isWriterThread()) {
+            return writeConnectionPool.getDataSource().getConnection();
+        }
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (writeConnectionPool.isWriterThread()) {
+            return writeConnectionPool.getDataSource().getConnection(username, password);
+        }
+        return super.getConnection(username, password);
+    }
+}
@@ -0,0 +1,23 @@
+package com.freightmate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote DatasetReloadReport DTO describing a completed reload of the in-memory dataset
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatasetReloadReport {
+    private String source;
+    private long buildMillis;
+    private int previousRows;
+    private int currentRows;
+    private int addedRows;
+    private int removedRows;
+}
@@ -0,0 +1,21 @@
+package com.freightmate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote StartupPhaseReport DTO describing one phase of the startup timeline, offsets are from JVM start
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StartupPhaseReport {
+    private String phase;
+    private long startOffsetMillis;
+    private long durationMillis;
+    private String detail;
+}
@@ -0,0 +1,21 @@
+package com.freightmate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeChange DTO for a new suburb and postcode combination on the change stream
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuburbPostcodeChange {
+    private long sequence;
+    private String id;
+    private String suburbName;
+    private int postcode;
+}
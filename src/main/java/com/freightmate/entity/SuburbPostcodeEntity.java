@@ -1,15 +1,20 @@
 package com.freightmate.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.io.Serializable;
 
 /**
  * @author Hrishikesh.Lotekar
- * @implNote SuburbPostcodeEntity Entity Class
+ * @implNote SuburbPostcodeEntity Entity Class, held in the second-level cache
  */
 @Entity
 @Table(name = "SuburbPostcode")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
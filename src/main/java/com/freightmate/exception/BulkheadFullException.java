@@ -0,0 +1,15 @@
+package com.freightmate.exception;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote BulkheadFullException class for work rejected because its bulkhead has no free thread or queue slot.
+ */
+public class BulkheadFullException extends ServiceUnavailableException {
+
+	private static final long serialVersionUID = 1L;
+
+	public BulkheadFullException(String message) {
+		super(message, 1);
+	}
+
+}
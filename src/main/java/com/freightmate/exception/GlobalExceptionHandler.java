@@ -2,6 +2,7 @@ package com.freightmate.exception;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -72,13 +73,47 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
 	}
 
+	/**
+	 * Description : To handle ReloadInProgressException exception, only one dataset reload runs at a time
+	 */
+	@ExceptionHandler(ReloadInProgressException.class)
+	public ResponseEntity<ErrorResponse> handleReloadInProgressException(ReloadInProgressException e, HttpServletRequest request) {
+		log.warn("Reload rejected: {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+	}
+
+	/**
+	 * Description : To handle UnauthorizedException exception
+	 */
+	@ExceptionHandler(UnauthorizedException.class)
+	public ResponseEntity<ErrorResponse> handleUnauthorizedException(UnauthorizedException e, HttpServletRequest request) {
+		log.warn("Unauthorized request to {}: {}", request.getRequestURI(), e.getMessage());
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(e.getMessage()));
+	}
+
+	/**
+	 * Description : To handle ServiceUnavailableException exception, tells the client when to retry. Logged at
+	 *    debug only: these are answered by the thousand while overloaded, the access log records them and the
+	 *    limiter and circuit breaker log their own state changes.
+	 */
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e, HttpServletRequest request) {
+		log.debug("Request rejected: {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.cacheControl(CacheControl.noStore())
+				.body(new ErrorResponse(e.getMessage()));
+	}
+
 	/**
 	 * Description : To handle Exceptions
 	 */
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<ErrorResponse> handleAllException(RuntimeException e, HttpServletRequest request) {
+	public ResponseEntity<ErrorResponse> handleAllException(Exception e, HttpServletRequest request) {
 		log.error("Unexpected error occurred.", e);
-		return ResponseEntity.status(HttpStatus.OK).body(new ErrorResponse("INTERNAL_SERVER_ERROR"));
+		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.cacheControl(CacheControl.noStore())
+				.body(new ErrorResponse("INTERNAL_SERVER_ERROR"));
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.freightmate.exception;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReloadInProgressException class for a dataset reload requested while another one is still running.
+ */
+public class ReloadInProgressException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ReloadInProgressException(String message) {
+		super(message);
+	}
+
+}
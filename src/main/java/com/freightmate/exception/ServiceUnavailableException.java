@@ -0,0 +1,22 @@
+package com.freightmate.exception;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ServiceUnavailableException class for requests rejected because the service is over capacity.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfterSeconds;
+
+	public ServiceUnavailableException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.freightmate.exception;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote UnauthorizedException class for requests to an administrative endpoint without valid credentials.
+ */
+public class UnauthorizedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public UnauthorizedException(String message) {
+		super(message);
+	}
+
+}
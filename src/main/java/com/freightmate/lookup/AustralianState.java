@@ -0,0 +1,54 @@
+package com.freightmate.lookup;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AustralianState enum storing the state suffix of a suburb name as a one byte code.
+ */
+public enum AustralianState {
+    NONE(""),
+    ACT("ACT"),
+    NSW("NSW"),
+    NT("NT"),
+    QLD("QLD"),
+    SA("SA"),
+    TAS("TAS"),
+    VIC("VIC"),
+    WA("WA");
+
+    private static final AustralianState[] BY_CODE = values();
+
+    private final String suffix;
+
+    AustralianState(String suffix) {
+        this.suffix = suffix;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * @param code: passing code parameter
+     * Description : To resolve the state stored against a dictionary entry.
+     */
+    public static AustralianState fromCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    /**
+     * @param suffix: passing suffix parameter
+     * Description : To resolve a state suffix such as "NSW", returns NONE when it is not a known state.
+     */
+    public static AustralianState fromSuffix(String suffix) {
+        for (int i = 1; i < BY_CODE.length; i++) {
+            if (BY_CODE[i].suffix.equals(suffix)) {
+                return BY_CODE[i];
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,163 @@
+package com.freightmate.lookup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbNameDictionary immutable dictionary of distinct suburb names.
+ *    Every name is split into a base name and an {@link AustralianState} suffix ("NORTH SYDNEY, NSW" becomes
+ *    "NORTH SYDNEY" + NSW). Base names are stored once as UTF-8 in a single byte arena and each name id only keeps
+ *    an int pointer to its base name and a one byte state code, so no String is held per name.
+ */
+public final class SuburbNameDictionary {
+
+    private static final String STATE_SEPARATOR = ", ";
+
+    private static final int EMPTY_SLOT = -1;
+
+    private final byte[] arena;
+    private final int[] baseOffsets;
+    private final int[] entryBase;
+    private final byte[] entryState;
+    private final int[] slots;
+
+    /**
+     * @param sortedNames: passing distinct suburb names in the order their ids should be assigned
+     * Description : To build the dictionary, name id i is the i-th entry of the given list.
+     */
+    SuburbNameDictionary(List<String> sortedNames) {
+        int size = sortedNames.size();
+        Map<String, Integer> baseIds = new HashMap<>();
+        ByteArrayOutputStream arenaBuilder = new ByteArrayOutputStream();
+        int[] offsets = new int[size + 1];
+        int baseCount = 0;
+
+        this.entryBase = new int[size];
+        this.entryState = new byte[size];
+        for (int id = 0; id < size; id++) {
+            String name = sortedNames.get(id);
+            AustralianState state = stateOf(name);
+            String base = baseOf(name, state);
+            Integer baseId = baseIds.get(base);
+            if (baseId == null) {
+                byte[] bytes = base.getBytes(StandardCharsets.UTF_8);
+                arenaBuilder.write(bytes, 0, bytes.length);
+                baseId = baseCount++;
+                offsets[baseCount] = arenaBuilder.size();
+                baseIds.put(base, baseId);
+            }
+            entryBase[id] = baseId;
+            entryState[id] = state.code();
+        }
+        this.arena = arenaBuilder.toByteArray();
+        this.baseOffsets = Arrays.copyOf(offsets, baseCount + 1);
+
+        this.slots = new int[tableSize(size)];
+        Arrays.fill(slots, EMPTY_SLOT);
+        for (int id = 0; id < size; id++) {
+            int base = entryBase[id];
+            int mask = slots.length - 1;
+            int slot = hash(arena, baseOffsets[base], baseOffsets[base + 1], entryState[id]) & mask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+    }
+
+    /**
+     * Description : Number of distinct suburb names.
+     */
+    public int size() {
+        return entryBase.length;
+    }
+
+    /**
+     * @param id: passing name id parameter
+     * Description : To decode the full suburb name, including the state suffix, for a name id.
+     */
+    public String name(int id) {
+        int base = entryBase[id];
+        int from = baseOffsets[base];
+        String baseName = new String(arena, from, baseOffsets[base + 1] - from, StandardCharsets.UTF_8);
+        AustralianState state = AustralianState.fromCode(entryState[id]);
+        return state == AustralianState.NONE ? baseName : baseName + STATE_SEPARATOR + state.getSuffix();
+    }
+
+    /**
+     * @param id: passing name id parameter
+     * Description : To fetch the state a name id belongs to.
+     */
+    public AustralianState state(int id) {
+        return AustralianState.fromCode(entryState[id]);
+    }
+
+    /**
+     * @param name: passing full suburb name parameter
+     * Description : To fetch the id of a suburb name, returns -1 when the name is not in the dictionary.
+     */
+    public int idOf(String name) {
+        if (name == null || slots.length == 0) {
+            return -1;
+        }
+        AustralianState state = stateOf(name);
+        byte[] base = baseOf(name, state).getBytes(StandardCharsets.UTF_8);
+        byte code = state.code();
+        int mask = slots.length - 1;
+        int slot = hash(base, 0, base.length, code) & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            int id = slots[slot];
+            if (entryState[id] == code) {
+                int from = baseOffsets[entryBase[id]];
+                int to = baseOffsets[entryBase[id] + 1];
+                if (Arrays.equals(arena, from, to, base, 0, base.length)) {
+                    return id;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Description : Approximate number of heap bytes held by the arrays of this dictionary.
+     */
+    public long footprintBytes() {
+        return arena.length + 4L * (baseOffsets.length + entryBase.length + slots.length) + entryState.length;
+    }
+
+    private static AustralianState stateOf(String name) {
+        int separator = name.lastIndexOf(STATE_SEPARATOR);
+        if (separator <= 0) {
+            return AustralianState.NONE;
+        }
+        return AustralianState.fromSuffix(name.substring(separator + STATE_SEPARATOR.length()));
+    }
+
+    private static String baseOf(String name, AustralianState state) {
+        if (state == AustralianState.NONE) {
+            return name;
+        }
+        return name.substring(0, name.length() - state.getSuffix().length() - STATE_SEPARATOR.length());
+    }
+
+    private static int hash(byte[] bytes, int from, int to, byte stateCode) {
+        int h = stateCode;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSize(int entries) {
+        if (entries == 0) {
+            return 0;
+        }
+        return Integer.highestOneBit(Math.max(entries * 2 - 1, 1)) << 1;
+    }
+}
@@ -0,0 +1,211 @@
+package com.freightmate.lookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeIndex immutable in-memory copy of the suburb_postcode table.
+ *    Suburb names live in a {@link SuburbNameDictionary} and both directions of the lookup are kept as
+ *    primitive int arrays in compressed row layout: the name ids of postcode p are
+ *    postcodeNameIds[postcodeOffsets[p] .. postcodeOffsets[p + 1]) and the postcodes of name id n are
+ *    namePostcodes[nameOffsets[n] .. nameOffsets[n + 1]). Names of a postcode are returned in name order and
+ *    postcodes of a name in ascending order.
+ */
+public final class SuburbPostcodeIndex {
+
+    public static final int MAX_POSTCODE = 9999;
+
+    private static final SuburbPostcodeIndex EMPTY = builder().build();
+
+    private final SuburbNameDictionary names;
+    private final int[] postcodeOffsets;
+    private final int[] postcodeNameIds;
+    private final int[] nameOffsets;
+    private final int[] namePostcodes;
+
+    private SuburbPostcodeIndex(SuburbNameDictionary names, int[] postcodeOffsets, int[] postcodeNameIds,
+                                int[] nameOffsets, int[] namePostcodes) {
+        this.names = names;
+        this.postcodeOffsets = postcodeOffsets;
+        this.postcodeNameIds = postcodeNameIds;
+        this.nameOffsets = nameOffsets;
+        this.namePostcodes = namePostcodes;
+    }
+
+    /**
+     * Description : Index holding no rows, used until the first dataset is loaded.
+     */
+    public static SuburbPostcodeIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Description : Number of suburb and postcode combinations in the index.
+     */
+    public int size() {
+        return postcodeNameIds.length;
+    }
+
+    /**
+     * Description : Number of distinct suburb names in the index.
+     */
+    public int suburbCount() {
+        return names.size();
+    }
+
+    /**
+     * @param postcode: passing Postcode parameter
+     * Description : To Fetch the suburb names of a postcode, empty when the postcode is unknown.
+     */
+    public List<String> suburbsForPostcode(int postcode) {
+        if (postcode < 0 || postcode > MAX_POSTCODE) {
+            return List.of();
+        }
+        int from = postcodeOffsets[postcode];
+        int to = postcodeOffsets[postcode + 1];
+        List<String> suburbs = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            suburbs.add(names.name(postcodeNameIds[i]));
+        }
+        return suburbs;
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * Description : To Fetch the postcodes of a suburb name, empty when the name is unknown.
+     */
+    public int[] postcodesForSuburb(String suburbName) {
+        int id = names.idOf(suburbName);
+        if (id < 0) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(namePostcodes, nameOffsets[id], nameOffsets[id + 1]);
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * @param postcode: passing Postcode parameter
+     * Description : To check whether the combination is present in the index.
+     */
+    public boolean contains(String suburbName, int postcode) {
+        int id = names.idOf(suburbName);
+        if (id < 0) {
+            return false;
+        }
+        return Arrays.binarySearch(namePostcodes, nameOffsets[id], nameOffsets[id + 1], postcode) >= 0;
+    }
+
+    /**
+     * @param consumer : passing consumer receiving every suburb name and postcode combination
+     * Description : To walk all rows in postcode order.
+     */
+    public void forEach(ObjIntConsumer<String> consumer) {
+        for (int postcode = 0; postcode <= MAX_POSTCODE; postcode++) {
+            for (int i = postcodeOffsets[postcode]; i < postcodeOffsets[postcode + 1]; i++) {
+                consumer.accept(names.name(postcodeNameIds[i]), postcode);
+            }
+        }
+    }
+
+    /**
+     * Description : Approximate number of heap bytes held by the arrays of this index.
+     */
+    public long footprintBytes() {
+        return names.footprintBytes()
+                + 4L * (postcodeOffsets.length + postcodeNameIds.length + nameOffsets.length + namePostcodes.length);
+    }
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote Builder collecting rows before they are packed into a SuburbPostcodeIndex.
+     *    Duplicate rows are ignored, so the builder can be fed straight from a table or a file.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> provisionalIds = new HashMap<>();
+        private final List<String> provisionalNames = new ArrayList<>();
+        private long[] rows = new long[1024];
+        private int rowCount;
+
+        private Builder() {
+        }
+
+        /**
+         * @param suburbName : passing Suburb Name parameter
+         * @param postcode: passing Postcode parameter
+         * Description : To add a suburb name and postcode combination.
+         */
+        public Builder add(String suburbName, int postcode) {
+            if (suburbName == null || postcode < 0 || postcode > MAX_POSTCODE) {
+                throw new IllegalArgumentException("Invalid suburb name or postcode.");
+            }
+            Integer id = provisionalIds.get(suburbName);
+            if (id == null) {
+                id = provisionalNames.size();
+                provisionalIds.put(suburbName, id);
+                provisionalNames.add(suburbName);
+            }
+            if (rowCount == rows.length) {
+                rows = Arrays.copyOf(rows, rowCount * 2);
+            }
+            rows[rowCount++] = ((long) postcode << 32) | id;
+            return this;
+        }
+
+        public SuburbPostcodeIndex build() {
+            // Assign final ids in name order so that id order is also the order names are returned in
+            List<String> sortedNames = new ArrayList<>(provisionalNames);
+            sortedNames.sort(null);
+            int[] finalIds = new int[sortedNames.size()];
+            for (int finalId = 0; finalId < sortedNames.size(); finalId++) {
+                finalIds[provisionalIds.get(sortedNames.get(finalId))] = finalId;
+            }
+
+            long[] packed = new long[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                packed[i] = (rows[i] & 0xFFFFFFFF00000000L) | finalIds[(int) rows[i]];
+            }
+            Arrays.sort(packed);
+            int unique = 0;
+            for (int i = 0; i < packed.length; i++) {
+                if (i == 0 || packed[i] != packed[i - 1]) {
+                    packed[unique++] = packed[i];
+                }
+            }
+
+            int[] postcodeOffsets = new int[MAX_POSTCODE + 2];
+            int[] postcodeNameIds = new int[unique];
+            int[] nameOffsets = new int[sortedNames.size() + 1];
+            for (int i = 0; i < unique; i++) {
+                postcodeOffsets[(int) (packed[i] >>> 32) + 1]++;
+                postcodeNameIds[i] = (int) packed[i];
+                nameOffsets[(int) packed[i] + 1]++;
+            }
+            for (int p = 0; p <= MAX_POSTCODE; p++) {
+                postcodeOffsets[p + 1] += postcodeOffsets[p];
+            }
+            for (int n = 0; n < sortedNames.size(); n++) {
+                nameOffsets[n + 1] += nameOffsets[n];
+            }
+
+            // Rows are in postcode order, so filling each name's slice in that order keeps its postcodes sorted
+            int[] namePostcodes = new int[unique];
+            int[] cursor = Arrays.copyOf(nameOffsets, sortedNames.size());
+            for (int i = 0; i < unique; i++) {
+                namePostcodes[cursor[(int) packed[i]]++] = (int) (packed[i] >>> 32);
+            }
+
+            return new SuburbPostcodeIndex(new SuburbNameDictionary(sortedNames), postcodeOffsets, postcodeNameIds,
+                    nameOffsets, namePostcodes);
+        }
+    }
+}
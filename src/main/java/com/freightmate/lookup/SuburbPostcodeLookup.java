@@ -0,0 +1,118 @@
+package com.freightmate.lookup;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeLookup holder of the in-memory dataset used by the lookup APIs.
+ *    The loaded {@link SuburbPostcodeIndex} is immutable; combinations added through the API after it was built
+ *    are kept in a small overlay and merged into the results until the next index replaces them.
+ *    A reload swaps the whole index with a single reference update, so a lookup in flight keeps reading the
+ *    version it started with while new lookups see the new one. Until a first index is loaded nothing is held, so
+ *    additions are not recorded either and every lookup goes to the database.
+ */
+@Component
+public class SuburbPostcodeLookup {
+
+    private final AtomicReference<SuburbPostcodeIndex> current = new AtomicReference<>(SuburbPostcodeIndex.empty());
+
+    private volatile boolean loaded;
+
+    private final Map<Integer, Set<String>> addedSuburbsByPostcode = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> addedPostcodesBySuburb = new ConcurrentHashMap<>();
+
+    /**
+     * Description : The index currently used to answer lookups.
+     */
+    public SuburbPostcodeIndex getIndex() {
+        return current.get();
+    }
+
+    /**
+     * @param newIndex: passing the freshly built index
+     * Description : To make a new index visible to lookups, additions it already contains leave the overlay.
+     *    Returns the index that was replaced.
+     */
+    public synchronized SuburbPostcodeIndex replace(SuburbPostcodeIndex newIndex) {
+        SuburbPostcodeIndex previous = current.getAndSet(newIndex);
+        loaded = true;
+        addedPostcodesBySuburb.forEach((suburbName, postcodes) ->
+                postcodes.removeIf(postcode -> newIndex.contains(suburbName, postcode)));
+        addedPostcodesBySuburb.values().removeIf(Set::isEmpty);
+        addedSuburbsByPostcode.forEach((postcode, suburbs) ->
+                suburbs.removeIf(suburbName -> newIndex.contains(suburbName, postcode)));
+        addedSuburbsByPostcode.values().removeIf(Set::isEmpty);
+        return previous;
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * @param postcode: passing Postcode parameter
+     * Description : To record a combination persisted after the current index was built.
+     */
+    public void recordAddition(String suburbName, int postcode) {
+        if (!loaded || current.get().contains(suburbName, postcode)) {
+            return;
+        }
+        addedSuburbsByPostcode.computeIfAbsent(postcode, key -> new ConcurrentSkipListSet<>()).add(suburbName);
+        addedPostcodesBySuburb.computeIfAbsent(suburbName, key -> new ConcurrentSkipListSet<>()).add(postcode);
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * @param postcode: passing Postcode parameter
+     * Description : To check whether the combination is held in memory, including recorded additions.
+     */
+    public boolean contains(String suburbName, int postcode) {
+        if (current.get().contains(suburbName, postcode)) {
+            return true;
+        }
+        Set<Integer> added = addedPostcodesBySuburb.get(suburbName);
+        return added != null && added.contains(postcode);
+    }
+
+    /**
+     * @param postcode: passing Postcode parameter
+     * Description : To Fetch the suburb names of a postcode, empty when it is not held in memory.
+     */
+    public List<String> findSuburbs(int postcode) {
+        List<String> suburbs = current.get().suburbsForPostcode(postcode);
+        Set<String> added = addedSuburbsByPostcode.get(postcode);
+        if (added == null || added.isEmpty()) {
+            return suburbs;
+        }
+        Set<String> merged = new TreeSet<>(suburbs);
+        merged.addAll(added);
+        return new ArrayList<>(merged);
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * Description : To Fetch the postcodes of a suburb name, empty when it is not held in memory.
+     */
+    public List<Integer> findPostcodes(String suburbName) {
+        int[] postcodes = current.get().postcodesForSuburb(suburbName);
+        Set<Integer> added = addedPostcodesBySuburb.get(suburbName);
+        if (added == null || added.isEmpty()) {
+            List<Integer> result = new ArrayList<>(postcodes.length);
+            for (int postcode : postcodes) {
+                result.add(postcode);
+            }
+            return result;
+        }
+        Set<Integer> merged = new TreeSet<>(added);
+        for (int postcode : postcodes) {
+            merged.add(postcode);
+        }
+        return new ArrayList<>(merged);
+    }
+}
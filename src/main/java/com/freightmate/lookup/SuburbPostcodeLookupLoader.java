@@ -0,0 +1,254 @@
+package com.freightmate.lookup;
+
+import com.freightmate.dto.DatasetReloadReport;
+import com.freightmate.datasource.BulkConnectionPool;
+import com.freightmate.dto.SuburbPostcodeChange;
+import com.freightmate.exception.ReloadInProgressException;
+import com.freightmate.resilience.Bulkheads;
+import com.freightmate.service.SuburbPostcodeChangeFeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeLookupLoader builds the in-memory lookup from the suburb_postcode table or a file.
+ *    A complete new index is built in the bulk bulkhead, reading the table over the bulk connection pool, and then
+ *    swapped in through
+ *    {@link SuburbPostcodeLookup#replace}, so lookups never observe a half loaded dataset. Combinations a database
+ *    reload adds to an already loaded dataset are published on the change stream. A file reload only replaces the
+ *    in-memory copy, it does not write to the database, so its additions are not published and the next database
+ *    reload brings the table's rows back. Files are only read from freightmate.dataset.reload-directory.
+ *    Rows written by other instances, or straight into the table, never reach this instance's overlay, so once the
+ *    index is preloaded it is rebuilt from the table every freightmate.lookup.refresh-interval-seconds; until then
+ *    lookups may miss such rows.
+ */
+@Component
+public class SuburbPostcodeLookupLoader {
+
+    private final Logger logger = LoggerFactory.getLogger(SuburbPostcodeLookupLoader.class);
+
+    private final BulkConnectionPool bulkConnectionPool;
+    private final SuburbPostcodeLookup suburbPostcodeLookup;
+    private final SuburbPostcodeChangeFeed suburbPostcodeChangeFeed;
+    private final Bulkheads bulkheads;
+    private final boolean preloadOnStartup;
+    private final Path reloadDirectory;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final ScheduledExecutorService refresher;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public SuburbPostcodeLookupLoader(BulkConnectionPool bulkConnectionPool,
+                                      SuburbPostcodeLookup suburbPostcodeLookup,
+                                      SuburbPostcodeChangeFeed suburbPostcodeChangeFeed,
+                                      Bulkheads bulkheads,
+                                      @Value("${freightmate.lookup.preload-on-startup:true}") boolean preloadOnStartup,
+                                      @Value("${freightmate.dataset.reload-directory:}") String reloadDirectory,
+                                      @Value("${freightmate.lookup.refresh-interval-seconds:60}") long refreshIntervalSeconds) {
+        this.bulkConnectionPool = bulkConnectionPool;
+        this.suburbPostcodeLookup = suburbPostcodeLookup;
+        this.suburbPostcodeChangeFeed = suburbPostcodeChangeFeed;
+        this.bulkheads = bulkheads;
+        this.preloadOnStartup = preloadOnStartup;
+        this.reloadDirectory = reloadDirectory.isBlank() ? null : Path.of(reloadDirectory).toAbsolutePath().normalize();
+        if (preloadOnStartup && refreshIntervalSeconds > 0) {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "suburb-postcode-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh, refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            this.refresher = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Description : To build the index during the startup warm-up, before the application reports ready. Completes
+     *    with null when preloading is turned off. A failure leaves the lookup empty so requests are still answered
+     *    from the database.
+     */
+    public CompletableFuture<DatasetReloadReport> preload() {
+        if (!preloadOnStartup) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return reloadFromDatabase().exceptionally(e -> {
+            logger.error("Could not preload suburb and postcode combinations, lookups will use the database.", e);
+            return null;
+        });
+    }
+
+    /**
+     * Description : To rebuild the index from the suburb_postcode table in the background and swap it in.
+     */
+    public CompletableFuture<DatasetReloadReport> reloadFromDatabase() {
+        return reload("database", this::readDatabase, true);
+    }
+
+    /**
+     * Description : To rebuild the index from the table on the refresh schedule, so rows added by other instances
+     *    become visible here and are published on the change stream. Skipped while another reload is running.
+     */
+    void refresh() {
+        try {
+            reloadFromDatabase().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ReloadInProgressException) {
+                logger.debug("Skipping the scheduled refresh, a dataset reload is already running.");
+            } else {
+                logger.warn("Scheduled refresh of the suburb and postcode dataset failed: {}", e.getCause().getMessage());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Scheduled refresh of the suburb and postcode dataset failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param fileName: passing fileName parameter, a file in freightmate.dataset.reload-directory
+     * Description : To rebuild the index from a file of the reload directory in the background and swap it in.
+     *    Names resolving outside of that directory are rejected, and so is every file when no directory is set.
+     */
+    public CompletableFuture<DatasetReloadReport> reloadFromFile(String fileName) {
+        if (reloadDirectory == null) {
+            throw new IllegalArgumentException("Reloading from a file is not enabled.");
+        }
+        Path file = reloadDirectory.resolve(fileName).normalize();
+        if (!file.getParent().equals(reloadDirectory) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException(String.format("No reload file named %s.", fileName));
+        }
+        return reloadFromFile(file);
+    }
+
+    /**
+     * @param file: passing file parameter
+     * Description : To rebuild the index from a file in the background and swap it in. Each line holds a
+     *    postcode followed by a comma and the suburb name, e.g. "2849,DABEE, NSW". A header line is skipped.
+     */
+    CompletableFuture<DatasetReloadReport> reloadFromFile(Path file) {
+        return reload("file:" + file.getFileName(), () -> readFile(file), false);
+    }
+
+    private CompletableFuture<DatasetReloadReport> reload(String source, Supplier<SuburbPostcodeIndex> indexSupplier,
+                                                          boolean publishAdditions) {
+        if (!reloading.compareAndSet(false, true)) {
+            return CompletableFuture.failedFuture(new ReloadInProgressException("A dataset reload is already running."));
+        }
+        try {
+            return bulkheads.bulk().submit(() -> swap(source, indexSupplier, publishAdditions))
+                    .whenComplete((report, e) -> reloading.set(false));
+        } catch (RuntimeException e) {
+            reloading.set(false);
+            throw e;
+        }
+    }
+
+    private DatasetReloadReport swap(String source, Supplier<SuburbPostcodeIndex> indexSupplier, boolean publish) {
+        long start = System.nanoTime();
+        SuburbPostcodeIndex index = indexSupplier.get();
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        SuburbPostcodeIndex previous = suburbPostcodeLookup.getIndex();
+
+        // Rows already recorded through the API were published when they were added
+        boolean publishAdditions = publish && previous.size() > 0;
+        List<SuburbPostcodeChange> unpublished = new ArrayList<>();
+        int[] added = new int[1];
+        index.forEach((suburbName, postcode) -> {
+            if (!previous.contains(suburbName, postcode)) {
+                added[0]++;
+            }
+            if (publishAdditions && !suburbPostcodeLookup.contains(suburbName, postcode)) {
+                unpublished.add(SuburbPostcodeChange.builder().suburbName(suburbName).postcode(postcode).build());
+            }
+        });
+        int removed = previous.size() - (index.size() - added[0]);
+
+        suburbPostcodeLookup.replace(index);
+        unpublished.forEach(change -> suburbPostcodeChangeFeed.publish(change.getSuburbName(), change.getPostcode()));
+
+        DatasetReloadReport report = DatasetReloadReport.builder()
+                .source(source)
+                .buildMillis(buildMillis)
+                .previousRows(previous.size())
+                .currentRows(index.size())
+                .addedRows(added[0])
+                .removedRows(removed)
+                .build();
+        logger.info("Reloaded suburb and postcode dataset from {} in {} ms: {} rows ({} added, {} removed, ~{} KB)",
+                source, buildMillis, index.size(), added[0], removed, index.footprintBytes() / 1024);
+        return report;
+    }
+
+    private SuburbPostcodeIndex readDatabase() {
+        SuburbPostcodeIndex.Builder builder = SuburbPostcodeIndex.builder();
+        bulkConnectionPool.getJdbcTemplate().query("SELECT suburb_name, postcode FROM suburb_postcode",
+                resultSet -> {
+                    builder.add(resultSet.getString(1), resultSet.getInt(2));
+                });
+        return builder.build();
+    }
+
+    static SuburbPostcodeIndex readFile(Path file) {
+        SuburbPostcodeIndex.Builder builder = SuburbPostcodeIndex.builder();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                int separator = line.indexOf(',');
+                String postcode = separator < 0 ? line.trim() : line.substring(0, separator).trim();
+                if (lineNumber == 1 && !postcode.chars().allMatch(Character::isDigit)) {
+                    continue;
+                }
+                String suburbName = separator < 0 ? "" : unquote(line.substring(separator + 1).trim());
+                try {
+                    if (suburbName.isEmpty()) {
+                        throw new IllegalArgumentException("Suburb name cannot be null or empty.");
+                    }
+                    builder.add(suburbName, Integer.parseInt(postcode));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(String.format("Invalid row at line %d of %s.", lineNumber, file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.build();
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,55 @@
+package com.freightmate.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote QueryCacheMetrics hit, miss and put counts of the lookup query cache region. The Hibernate metrics only
+ *    cover regions that exist at startup, and a named query region is only created by the first cached query.
+ */
+@Component
+public class QueryCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public QueryCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String region = SuburbPostcodeRepository.LOOKUP_CACHE_REGION;
+        FunctionCounter.builder("freightmate.query.cache.requests", statistics, count(region, CacheRegionStatistics::getHitCount))
+                .tags("region", region, "result", "hit")
+                .description("Lookups answered from the query cache")
+                .register(registry);
+        FunctionCounter.builder("freightmate.query.cache.requests", statistics, count(region, CacheRegionStatistics::getMissCount))
+                .tags("region", region, "result", "miss")
+                .description("Lookups not found in the query cache")
+                .register(registry);
+        FunctionCounter.builder("freightmate.query.cache.puts", statistics, count(region, CacheRegionStatistics::getPutCount))
+                .tags("region", region)
+                .description("Lookup results put in the query cache")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<Statistics> count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(region);
+            return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+        };
+    }
+}
@@ -1,34 +1,83 @@
 package com.freightmate.repository;
 
+import com.freightmate.dto.SuburbNameInfo;
 import com.freightmate.entity.SuburbPostcodeEntity;
 import com.freightmate.entity.SuburbPostcodeId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 /**
  * @author Hrishikesh.Lotekar
- * @implNote SuburbPostcodeRepository repository
+ * @implNote SuburbPostcodeRepository repository. Lookups select columns straight into DTOs and scalars inside
+ *    read-only transactions, so they never put managed entities or their snapshots in the persistence context.
+ *    Their results are kept in the suburb-postcode-lookups query cache region.
  */
 @Repository
 public interface SuburbPostcodeRepository extends JpaRepository<SuburbPostcodeEntity, SuburbPostcodeId> {
 
 
+    String LOOKUP_FETCH_SIZE = "100";
+    String LOOKUP_CACHE_REGION = "suburb-postcode-lookups";
+
     /**
      * @param postcode: passing Postcode parameter
      * Description : To Fetch the Suburbs details using postcode.
      */
-    List<SuburbPostcodeEntity> findByIdPostcode(int postcode);
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.freightmate.dto.SuburbNameInfo(s.id.suburbName) FROM SuburbPostcodeEntity s WHERE s.id.postcode = :postcode")
+    @QueryHints({@QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HINT_FETCH_SIZE, value = LOOKUP_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)})
+    List<SuburbNameInfo> findSuburbNamesByPostcode(@Param("postcode") int postcode);
 
 
     /**
      * @param suburbName : passing Suburb Name parameter
      * Description : To Fetch the Postcode details using Suburb Name
      */
+    @Transactional(readOnly = true)
     @Query("SELECT s.id.postcode FROM SuburbPostcodeEntity s WHERE s.id.suburbName = :suburbName")
+    @QueryHints({@QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HINT_FETCH_SIZE, value = LOOKUP_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)})
     List<Integer> findPostcodesBySuburbName(@Param("suburbName") String suburbName);
 
+    /**
+     * @param id : passing Suburb Name and Postcode combination
+     * Description : To check whether a combination exists before inserting it. Runs read-write so that with
+     *    replica routing the check is answered by the primary the insert goes to.
+     */
+    @Override
+    @Transactional
+    boolean existsById(SuburbPostcodeId id);
+
+    /**
+     * @param ids : passing Suburb Name and Postcode combinations
+     * Description : To find which of a batch of combinations already exist with a single query, so a group commit
+     *    does not check them row by row. Does not flush, the rows the caller is about to insert stay batched.
+     */
+    @Transactional
+    @Query("SELECT s.id FROM SuburbPostcodeEntity s WHERE s.id IN :ids")
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    List<SuburbPostcodeId> findExistingIds(@Param("ids") Collection<SuburbPostcodeId> ids);
+
 
 
 }
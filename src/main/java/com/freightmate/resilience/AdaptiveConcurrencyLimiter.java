@@ -0,0 +1,183 @@
+package com.freightmate.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AdaptiveConcurrencyLimiter caps the number of requests waiting on the database at the same time.
+ *    The limit follows a gradient: every completed call compares its latency with the long term average
+ *    latency. While they are close the limit grows by roughly its square root, when calls get slower the
+ *    limit shrinks in proportion, and a failed or timed out call cuts it multiplicatively. Requests over the
+ *    limit are rejected straight away instead of queueing on the connection pool.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 600;
+    private static final long SHED_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong lastShedLogNanos;
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    @Autowired
+    public AdaptiveConcurrencyLimiter(@Value("${freightmate.limiter.initial-limit:10}") int initialLimit,
+                                      @Value("${freightmate.limiter.min-limit:2}") int minLimit,
+                                      @Value("${freightmate.limiter.max-limit:50}") int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.lastShedLogNanos = new AtomicLong(nanoClock.getAsLong() - SHED_LOG_INTERVAL_NANOS);
+    }
+
+    /**
+     * Description : To take a slot for a database call, empty when the limit is reached. The returned permit
+     *    must be completed exactly once.
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                logShedding(rejected.incrementAndGet());
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1));
+            }
+        }
+    }
+
+    /**
+     * Description : To report shedding at most once per interval, a warning per rejected request would add log
+     *    I/O to every request while the service is overloaded.
+     */
+    private void logShedding(long rejectedSoFar) {
+        long now = nanoClock.getAsLong();
+        long last = lastShedLogNanos.get();
+        if (now - last >= SHED_LOG_INTERVAL_NANOS && lastShedLogNanos.compareAndSet(last, now)) {
+            logger.warn("Shedding database bound requests at a concurrency limit of {}, {} rejected so far",
+                    (int) limit, rejectedSoFar);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("freightmate.db.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current limit of concurrent database bound requests")
+                .register(registry);
+        Gauge.builder("freightmate.db.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Database bound requests currently in flight")
+                .register(registry);
+        FunctionCounter.builder("freightmate.db.concurrency.rejected", this, AdaptiveConcurrencyLimiter::getRejected)
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(registry);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        }
+        // After a slow period let the baseline come back down quickly instead of treating it as the norm
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        // Only grow when the limit was actually being used, an idle service says nothing about capacity
+        if (inFlightAtStart < limit / 2 && rttNanos <= longRttNanos * TOLERANCE) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        setLimit(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    private synchronized void onDropped() {
+        setLimit(limit * BACKOFF_RATIO);
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote Permit held for the duration of one database call.
+     */
+    public final class Permit {
+        private final long startNanos = nanoClock.getAsLong();
+        private final int inFlightAtStart;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Description : The call completed, its latency feeds the limit.
+         */
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            onSample(Math.max(1, nanoClock.getAsLong() - startNanos), inFlightAtStart);
+        }
+
+        /**
+         * Description : The call failed or timed out because the database is struggling, the limit backs off.
+         */
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            AdaptiveConcurrencyLimiter.this.onDropped();
+        }
+
+        /**
+         * Description : The call failed for a reason unrelated to load, the limit is left alone.
+         */
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
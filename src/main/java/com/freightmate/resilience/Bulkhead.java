@@ -0,0 +1,85 @@
+package com.freightmate.resilience;
+
+import com.freightmate.exception.BulkheadFullException;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Bulkhead dedicated, fixed size thread pool with a bounded queue for one class of work.
+ *    Work that does not fit in the pool and its queue is rejected straight away, so one class of work can not
+ *    take threads or database connections away from another. Each bulkhead has a circuit breaker of its own, so
+ *    failures of one class of work do not refuse the others.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolTaskExecutor executor;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param name: passing name parameter
+     * @param threads: passing number of threads parameter
+     * @param queueCapacity: passing queueCapacity parameter
+     * @param taskDecorator: passing decorator carrying request context over to the pool threads
+     * @param circuitBreaker: passing the circuit breaker guarding the database calls of the bulkhead
+     */
+    public Bulkhead(String name, int threads, int queueCapacity, TaskDecorator taskDecorator,
+                    DatabaseCircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bulkhead-" + name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(taskDecorator);
+        executor.setDaemon(true);
+        executor.initialize();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DatabaseCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @param task: passing task parameter
+     * Description : To run a task in the bulkhead, the future fails with BulkheadFullException when the
+     *    bulkhead is full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new BulkheadFullException(String.format("The %s bulkhead is full.", name)));
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
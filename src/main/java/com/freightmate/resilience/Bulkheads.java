@@ -0,0 +1,110 @@
+package com.freightmate.resilience;
+
+import com.freightmate.datasource.WriteConnectionPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Bulkheads the thread pools database work runs in: lookups that miss the in-memory index, single
+ *    writes, and bulk jobs such as dataset reloads. Each has a connection pool and a circuit breaker of its own:
+ *    lookups use the main pool, writes the WriteConnectionPool and bulk jobs the BulkConnectionPool.
+ */
+@Component
+public class Bulkheads implements MeterBinder {
+
+    private final Bulkhead lookup;
+    private final Bulkhead write;
+    private final Bulkhead bulk;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    @Autowired
+    public Bulkheads(List<TaskDecorator> taskDecorators,
+                     WriteConnectionPool writeConnectionPool,
+                     @Value("${freightmate.bulkhead.lookup.threads:8}") int lookupThreads,
+                     @Value("${freightmate.bulkhead.lookup.queue-capacity:42}") int lookupQueue,
+                     @Value("${freightmate.bulkhead.write.threads:2}") int writeThreads,
+                     @Value("${freightmate.bulkhead.write.queue-capacity:200}") int writeQueue,
+                     @Value("${freightmate.bulkhead.bulk.threads:1}") int bulkThreads,
+                     @Value("${freightmate.bulkhead.bulk.queue-capacity:1}") int bulkQueue,
+                     @Value("${freightmate.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                     @Value("${freightmate.circuit-breaker.open-ms:5000}") long openMillis) {
+        TaskDecorator taskDecorator = compose(taskDecorators);
+        TaskDecorator writerTaskDecorator = runnable -> writeConnectionPool.asWriter(taskDecorator.decorate(runnable));
+        this.lookup = new Bulkhead("lookup", lookupThreads, lookupQueue, taskDecorator,
+                new DatabaseCircuitBreaker("lookup", failureThreshold, openMillis));
+        this.write = new Bulkhead("write", writeThreads, writeQueue, writerTaskDecorator,
+                new DatabaseCircuitBreaker("write", failureThreshold, openMillis));
+        this.bulk = new Bulkhead("bulk", bulkThreads, bulkQueue, taskDecorator,
+                new DatabaseCircuitBreaker("bulk", failureThreshold, openMillis));
+    }
+
+    public Bulkheads(Bulkhead lookup, Bulkhead write, Bulkhead bulk) {
+        this.lookup = lookup;
+        this.write = write;
+        this.bulk = bulk;
+    }
+
+    public Bulkhead lookup() {
+        return lookup;
+    }
+
+    public Bulkhead write() {
+        return write;
+    }
+
+    public Bulkhead bulk() {
+        return bulk;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookup.shutdown();
+        write.shutdown();
+        bulk.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : List.of(lookup, write, bulk)) {
+            Gauge.builder("freightmate.bulkhead.queue-depth", bulkhead, Bulkhead::getQueueDepth)
+                    .tag("bulkhead", bulkhead.getName())
+                    .description("Tasks waiting for a bulkhead thread")
+                    .register(registry);
+            Gauge.builder("freightmate.bulkhead.active", bulkhead, Bulkhead::getActiveCount)
+                    .tag("bulkhead", bulkhead.getName())
+                    .description("Bulkhead threads currently running a task")
+                    .register(registry);
+            FunctionCounter.builder("freightmate.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                    .tag("bulkhead", bulkhead.getName())
+                    .description("Tasks rejected because the bulkhead was full")
+                    .register(registry);
+            Gauge.builder("freightmate.db.circuit-breaker.open", bulkhead.getCircuitBreaker(),
+                            breaker -> breaker.getState() == DatabaseCircuitBreaker.State.CLOSED ? 0 : 1)
+                    .tag("bulkhead", bulkhead.getName())
+                    .description("1 while the database circuit breaker of the bulkhead is open or half open")
+                    .register(registry);
+        }
+    }
+
+    private static TaskDecorator compose(List<TaskDecorator> taskDecorators) {
+        return runnable -> {
+            Runnable decorated = runnable;
+            for (TaskDecorator taskDecorator : taskDecorators) {
+                decorated = taskDecorator.decorate(decorated);
+            }
+            return decorated;
+        };
+    }
+}
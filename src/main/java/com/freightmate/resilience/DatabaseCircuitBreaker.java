@@ -0,0 +1,134 @@
+package com.freightmate.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote DatabaseCircuitBreaker stops calling the database after consecutive failures.
+ *    After failure-threshold timeouts or connection failures in a row the breaker opens and calls are refused
+ *    without touching the database for open-ms. Then a single trial call is let through: success closes the
+ *    breaker, failure opens it again. Each bulkhead has a breaker of its own (see Bulkheads), so failing writes
+ *    do not refuse lookups.
+ */
+public class DatabaseCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final Logger logger = LoggerFactory.getLogger(DatabaseCircuitBreaker.class);
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+    private boolean trialInFlight;
+
+    /**
+     * @param name: passing the name of the bulkhead the breaker guards
+     * @param failureThreshold: passing failureThreshold parameter
+     * @param openMillis: passing openMillis parameter
+     */
+    public DatabaseCircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::nanoTime);
+    }
+
+    DatabaseCircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param e: passing the exception a database call failed with
+     * Description : To tell failures caused by an unavailable or struggling database from other errors.
+     */
+    public static boolean isDatabaseFailure(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * Description : To ask whether a database call may be made now. Every permitted call must be followed by
+     *    onSuccess, onFailure or onNotAttempted.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openUntilNanos < 0) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Description : The database answered, including with an error unrelated to its availability.
+     */
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("Database circuit breaker of the {} bulkhead closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Description : The permitted call was never made, so a half open breaker lets another trial through.
+     */
+    public synchronized void onNotAttempted() {
+        trialInFlight = false;
+    }
+
+    /**
+     * Description : The database call timed out or could not get a connection.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                logger.warn("Database circuit breaker of the {} bulkhead opened after {} consecutive failures", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openUntilNanos = nanoClock.getAsLong() + openNanos;
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Description : Seconds until the breaker lets a trial call through, at least one.
+     */
+    public synchronized long retryAfterSeconds() {
+        if (state != State.OPEN) {
+            return 1;
+        }
+        long remaining = openUntilNanos - nanoClock.getAsLong();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.freightmate.resilience;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote LastKnownGoodStore bounded least-recently-used store of the last successful database results,
+ *    served marked as stale while the database is unavailable.
+ */
+@Component
+public class LastKnownGoodStore {
+
+    private final Map<String, Object> results;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public LastKnownGoodStore(@Value("${freightmate.stale.max-entries:50000}") int maxEntries) {
+        this.results = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param key: passing key parameter
+     * @param result: passing result parameter
+     * Description : To remember a successful result, empty results are not worth keeping.
+     */
+    public synchronized void put(String key, Object result) {
+        if (result == null || (result instanceof Collection<?> collection && collection.isEmpty())) {
+            return;
+        }
+        results.put(key, result);
+    }
+
+    /**
+     * @param key: passing key parameter
+     * Description : To fetch the last successful result for the key.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Optional<T> get(String key) {
+        return Optional.ofNullable((T) results.get(key));
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+}
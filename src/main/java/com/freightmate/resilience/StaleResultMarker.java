@@ -0,0 +1,44 @@
+package com.freightmate.resilience;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote StaleResultMarker flags, for the current request, that a result came from the LastKnownGoodStore
+ *    instead of the database so the controller can mark the response as stale. The flag is kept as a request
+ *    attribute, so it ends with the request even when the controller never reads it, and calls made outside a
+ *    request are not marked.
+ */
+public final class StaleResultMarker {
+
+    /**
+     * Response header set to true on responses served from last known good results.
+     */
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    private static final String STALE_ATTRIBUTE = StaleResultMarker.class.getName() + ".STALE";
+
+    private StaleResultMarker() {
+    }
+
+    public static void markStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(STALE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Description : To read and clear the flag of the current request.
+     */
+    public static boolean consume() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        boolean stale = attributes.getAttribute(STALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+        attributes.removeAttribute(STALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return stale;
+    }
+}
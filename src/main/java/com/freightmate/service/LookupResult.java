@@ -0,0 +1,33 @@
+package com.freightmate.service;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote LookupResult result of a lookup together with whether it was served from last known good results.
+ *    Used where the result is produced on another thread and StaleResultMarker can not carry the flag.
+ */
+public final class LookupResult<T> {
+
+    private final T value;
+    private final boolean stale;
+
+    private LookupResult(T value, boolean stale) {
+        this.value = value;
+        this.stale = stale;
+    }
+
+    public static <T> LookupResult<T> fresh(T value) {
+        return new LookupResult<>(value, false);
+    }
+
+    public static <T> LookupResult<T> stale(T value) {
+        return new LookupResult<>(value, true);
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+}
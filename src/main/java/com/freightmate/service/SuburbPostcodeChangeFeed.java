@@ -0,0 +1,380 @@
+package com.freightmate.service;
+
+import com.freightmate.dto.SuburbPostcodeChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeChangeFeed numbered stream of new suburb and postcode combinations.
+ *    The most recent changes are kept in a fixed size ring so consumers can resume from the last change they
+ *    saw. Sequences restart with every instance, so the id handed to consumers is the sequence prefixed with an
+ *    epoch drawn when this instance started ("epoch:sequence"); an id from another instance, or from before a
+ *    restart, is never mistaken for one of this history and is answered with a reset. Subscribers are asynchronous requests (SSE emitters and long-poll results) that hold no servlet thread
+ *    while idle. A single dispatcher thread hands new changes and heartbeats to them but never writes to a client
+ *    itself: every SSE subscriber has its own bounded queue, drained by a pool of sender threads that grows past
+ *    freightmate.changes.sender-threads while writes are blocked, so a slow client only delays its own stream. A
+ *    subscriber whose queue overflows, or whose write has been blocked for longer than
+ *    freightmate.changes.send-timeout-ms, is disconnected and resumes with Last-Event-ID when it reconnects; the
+ *    thread of a blocked write is only released once the container gives up on the write.
+ */
+@Component
+public class SuburbPostcodeChangeFeed {
+
+    /**
+     * SSE event sent instead of changes when the requested id can not be resumed from, its data is the id to
+     * continue from after re-reading the full dataset.
+     */
+    public static final String RESET_EVENT = "reset";
+
+    /**
+     * Response header of a 410 long-poll answer, the id to continue from after re-reading the full dataset.
+     */
+    public static final String LATEST_ID_HEADER = "X-Latest-Change-Id";
+
+    /**
+     * Sequence of an id that can not be resumed from on this instance.
+     */
+    static final long EXPIRED = -1;
+
+    private final Logger logger = LoggerFactory.getLogger(SuburbPostcodeChangeFeed.class);
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final SuburbPostcodeChange[] history;
+    private long latestSequence;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suburb-postcode-changes");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders;
+    private final int subscriberQueueCapacity;
+    private final long sendTimeoutNanos;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public SuburbPostcodeChangeFeed(@Value("${freightmate.changes.history-size:10000}") int historySize,
+                                    @Value("${freightmate.changes.heartbeat-seconds:15}") long heartbeatSeconds,
+                                    @Value("${freightmate.changes.subscriber-queue-capacity:1000}") int subscriberQueueCapacity,
+                                    @Value("${freightmate.changes.sender-threads:4}") int senderThreads,
+                                    @Value("${freightmate.changes.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.history = new SuburbPostcodeChange[historySize];
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        AtomicInteger senderNumber = new AtomicInteger();
+        // Hands every drain to an idle thread or a new one, a blocked write never holds up another subscriber
+        this.senders = new ThreadPoolExecutor(senderThreads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "suburb-postcode-changes-sender-" + senderNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long checkMillis = Math.max(10, sendTimeoutMillis / 2);
+        dispatcher.scheduleAtFixedRate(this::dropBlockedSubscribers, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * @param postcode: passing Postcode parameter
+     * Description : To append a new combination to the stream and wake up subscribers.
+     */
+    public SuburbPostcodeChange publish(String suburbName, int postcode) {
+        SuburbPostcodeChange change;
+        synchronized (this) {
+            change = new SuburbPostcodeChange(++latestSequence, idOf(latestSequence), suburbName, postcode);
+            history[(int) (latestSequence % history.length)] = change;
+        }
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+        return change;
+    }
+
+    public synchronized long latestSequence() {
+        return latestSequence;
+    }
+
+    public synchronized String latestId() {
+        return idOf(latestSequence);
+    }
+
+    /**
+     * @param sequence: passing sequence parameter
+     * Description : To build the id consumers resume from, the sequence prefixed with this instance's epoch.
+     */
+    public String idOf(long sequence) {
+        return epoch + ":" + sequence;
+    }
+
+    /**
+     * @param id: passing the id of the last change the consumer has seen
+     * Description : To read the sequence of an id issued by this instance. "0" stands for a consumer that has not
+     *    seen any change yet; an id of another instance, of this one before it restarted, or one that can not be
+     *    read, is EXPIRED.
+     */
+    public long sequenceOf(String id) {
+        if ("0".equals(id)) {
+            return 0;
+        }
+        int separator = id.lastIndexOf(':');
+        if (separator < 0 || !epoch.equals(id.substring(0, separator))) {
+            return EXPIRED;
+        }
+        try {
+            long sequence = Long.parseLong(id.substring(separator + 1));
+            return sequence < 0 ? EXPIRED : sequence;
+        } catch (NumberFormatException e) {
+            return EXPIRED;
+        }
+    }
+
+    /**
+     * @param sequence: passing the last sequence the consumer has seen
+     * Description : To check whether changes after the sequence have already left the retained history, or the
+     *    sequence is not one of this instance's history.
+     */
+    public synchronized boolean isExpired(long sequence) {
+        return sequence < 0 || sequence < latestSequence - history.length || sequence > latestSequence;
+    }
+
+    /**
+     * @param sequence: passing the last sequence the consumer has seen
+     * Description : To fetch the retained changes after the sequence, oldest first.
+     */
+    public synchronized List<SuburbPostcodeChange> changesSince(long sequence) {
+        long from = Math.max(sequence, latestSequence - history.length) + 1;
+        List<SuburbPostcodeChange> changes = new ArrayList<>((int) Math.max(0, latestSequence - from + 1));
+        for (long next = from; next <= latestSequence; next++) {
+            changes.add(history[(int) (next % history.length)]);
+        }
+        return changes;
+    }
+
+    /**
+     * @param id: passing the id of the last change the consumer has seen, null to start from now
+     * @param timeoutMillis: passing how long the stream stays open
+     * Description : To open an SSE stream replaying the retained changes after the id and then pushing new ones as
+     *    they are published.
+     */
+    public SseEmitter subscribe(String id, long timeoutMillis) {
+        return subscribe(new SseEmitter(timeoutMillis), id == null ? latestSequence() : sequenceOf(id));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, long sequence) {
+        Subscriber subscriber = new Subscriber(emitter, sequence);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        dispatcher.execute(() -> enqueue(subscriber, changesSince(subscriber.cursor)));
+        return emitter;
+    }
+
+    /**
+     * @param id: passing the id of the last change the consumer has seen
+     * @param waitMillis: passing how long to wait for a change
+     * Description : To answer a long-poll, completes as soon as there are changes after the id or with an empty
+     *    list when nothing arrived within the wait time.
+     */
+    public DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> poll(String id, long waitMillis) {
+        return poll(sequenceOf(id), waitMillis);
+    }
+
+    DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> poll(long sequence, long waitMillis) {
+        DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> result =
+                new DeferredResult<>(waitMillis, () -> ResponseEntity.ok(List.of()));
+        if (isExpired(sequence)) {
+            result.setResult(ResponseEntity.status(410).header(LATEST_ID_HEADER, latestId()).build());
+            return result;
+        }
+        Waiter waiter = new Waiter(sequence, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // A change published before the waiter was added would otherwise only be seen on the next publish
+        List<SuburbPostcodeChange> changes = changesSince(sequence);
+        if (!changes.isEmpty()) {
+            result.setResult(ResponseEntity.ok(changes));
+        }
+        return result;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size() + waiters.size();
+    }
+
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        long oldest = Long.MAX_VALUE;
+        for (Subscriber subscriber : subscribers) {
+            oldest = Math.min(oldest, subscriber.cursor);
+        }
+        for (Waiter waiter : waiters) {
+            oldest = Math.min(oldest, waiter.sequence);
+        }
+        if (oldest == Long.MAX_VALUE) {
+            return;
+        }
+        List<SuburbPostcodeChange> changes = changesSince(oldest);
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, changes);
+        }
+        for (Waiter waiter : waiters) {
+            List<SuburbPostcodeChange> pending = changes.stream()
+                    .filter(change -> change.getSequence() > waiter.sequence)
+                    .toList();
+            if (!pending.isEmpty()) {
+                waiter.result.setResult(ResponseEntity.ok(pending));
+            }
+        }
+    }
+
+    /**
+     * Description : To queue the changes a subscriber has not been sent yet, or a reset event when its cursor has
+     *    expired. Only called on the dispatcher thread.
+     */
+    private void enqueue(Subscriber subscriber, List<SuburbPostcodeChange> changes) {
+        if (isExpired(subscriber.cursor)) {
+            long latest = latestSequence();
+            if (offer(subscriber, SseEmitter.event().name(RESET_EVENT).data(idOf(latest)))) {
+                subscriber.cursor = latest;
+            }
+            return;
+        }
+        for (SuburbPostcodeChange change : changes) {
+            if (change.getSequence() > subscriber.cursor) {
+                if (!offer(subscriber, SseEmitter.event().id(change.getId()).data(change))) {
+                    return;
+                }
+                subscriber.cursor = change.getSequence();
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    private boolean offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            drop(subscriber, new IOException("Change stream subscriber fell behind."));
+            return false;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    /**
+     * Description : To write a subscriber's queued events on a sender thread, one drain per subscriber at a time.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedNanos = System.nanoTime();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber, e);
+                    return;
+                } finally {
+                    subscriber.sendStartedNanos = 0;
+                }
+            }
+            subscriber.sending.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.sending.compareAndSet(false, true));
+    }
+
+    /**
+     * Description : To disconnect the subscribers whose current write has been blocked for longer than the send
+     *    timeout, runs on the dispatcher thread.
+     */
+    private void dropBlockedSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                drop(subscriber, new IOException("Change stream write timed out."));
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, Throwable cause) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            logger.debug("Dropping change stream subscriber: {}", cause.getMessage());
+            subscriber.queue.clear();
+            // The emitter is locked for as long as a write to it is blocked, only a sender thread may wait for it
+            try {
+                senders.execute(() -> subscriber.emitter.completeWithError(cause));
+            } catch (RejectedExecutionException e) {
+                logger.debug("Change stream is shutting down, not completing the dropped subscriber.");
+            }
+        }
+    }
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote An open SSE stream, the last sequence queued for it, the events waiting to be sent and when the
+     *    write in progress started (0 when none is). The cursor is only moved by the dispatcher thread.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(subscriberQueueCapacity);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile long sendStartedNanos;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote A pending long-poll request.
+     */
+    private record Waiter(long sequence, DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> result) {
+    }
+}
@@ -5,6 +5,7 @@ import com.freightmate.dto.SuburbPostcodeInfo;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Hrishikesh.Lotekar
@@ -25,6 +26,18 @@ public interface SuburbPostcodeService {
      */
     Optional<List<Integer>> getPostcodesBySuburb(String suburbName);
 
+    /**
+     * @param postcode: passing Postcode parameter
+     * Description : To Fetch the Suburbs details using postcode without blocking the calling thread.
+     */
+    CompletableFuture<LookupResult<List<SuburbNameInfo>>> findSuburbsByPostcode(int postcode);
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * Description : To Fetch the Postcode details using Suburb Name without blocking the calling thread.
+     */
+    CompletableFuture<LookupResult<List<Integer>>> findPostcodesBySuburb(String suburbName);
+
     /**
      * @param  suburbPostcodeDTO : passing suburbPostcodeDTO containing SuburbName and Postcode
      * Description : To Insert the combination of SuburbName with Postcode
@@ -1,13 +1,29 @@
 package com.freightmate.service;
 import com.freightmate.dto.SuburbNameInfo;
+import com.freightmate.datasource.ReadYourWritesTracker;
 import com.freightmate.dto.SuburbPostcodeInfo;
 import com.freightmate.entity.SuburbPostcodeEntity;
+import com.freightmate.exception.BulkheadFullException;
 import com.freightmate.exception.ResourceNotFoundException;
+import com.freightmate.exception.ServiceUnavailableException;
+import com.freightmate.lookup.SuburbPostcodeLookup;
 import com.freightmate.repository.SuburbPostcodeRepository;
+import com.freightmate.resilience.AdaptiveConcurrencyLimiter;
+import com.freightmate.resilience.Bulkhead;
+import com.freightmate.resilience.Bulkheads;
+import com.freightmate.resilience.DatabaseCircuitBreaker;
+import com.freightmate.resilience.LastKnownGoodStore;
+import com.freightmate.resilience.StaleResultMarker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * @author Hrishikesh.Lotekar
@@ -16,16 +32,44 @@ import java.util.Optional;
 @Service
 public class SuburbPostcodeServiceImpl implements SuburbPostcodeService {
 
+    private final Logger log = LoggerFactory.getLogger(SuburbPostcodeServiceImpl.class);
 
     private final SuburbPostcodeRepository suburbPostcodeRepository;
+    private final SuburbPostcodeLookup suburbPostcodeLookup;
+    private final SuburbPostcodeWriteBehindQueue suburbPostcodeWriteBehindQueue;
+    private final SuburbPostcodeChangeFeed suburbPostcodeChangeFeed;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final LastKnownGoodStore lastKnownGoodStore;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Bulkheads bulkheads;
 
     /**
      * @param suburbPostcodeRepository: passing suburbPostcodeRepository parameter
+     * @param suburbPostcodeLookup: passing suburbPostcodeLookup parameter
+     * @param suburbPostcodeWriteBehindQueue: passing suburbPostcodeWriteBehindQueue parameter
+     * @param suburbPostcodeChangeFeed: passing suburbPostcodeChangeFeed parameter
+     * @param concurrencyLimiter: passing concurrencyLimiter parameter
+     * @param lastKnownGoodStore: passing lastKnownGoodStore parameter
+     * @param readYourWritesTracker: passing readYourWritesTracker parameter
+     * @param bulkheads: passing bulkheads parameter
      * Description : Implementing Constructor based dependency Injection.
      */
-    public SuburbPostcodeServiceImpl(SuburbPostcodeRepository suburbPostcodeRepository) {
+    public SuburbPostcodeServiceImpl(SuburbPostcodeRepository suburbPostcodeRepository,
+                                     SuburbPostcodeLookup suburbPostcodeLookup,
+                                     SuburbPostcodeWriteBehindQueue suburbPostcodeWriteBehindQueue,
+                                     SuburbPostcodeChangeFeed suburbPostcodeChangeFeed,
+                                     AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                     LastKnownGoodStore lastKnownGoodStore,
+                                     ReadYourWritesTracker readYourWritesTracker,
+                                     Bulkheads bulkheads) {
         this.suburbPostcodeRepository = suburbPostcodeRepository;
-
+        this.suburbPostcodeLookup = suburbPostcodeLookup;
+        this.suburbPostcodeWriteBehindQueue = suburbPostcodeWriteBehindQueue;
+        this.suburbPostcodeChangeFeed = suburbPostcodeChangeFeed;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.bulkheads = bulkheads;
 
     }
 
@@ -36,39 +80,72 @@ public class SuburbPostcodeServiceImpl implements SuburbPostcodeService {
     @Override
     public List<SuburbNameInfo> getSuburbsByPostcode(int postcode) throws ResourceNotFoundException
     {
+        return awaitResult(findSuburbsByPostcode(postcode));
+    }
+
+    /**
+     * @param suburbName : passing Suburb Name parameter
+     * Description : To Fetch the Postcode details using Suburb Name
+     */
+    @Override
+    public Optional<List<Integer>> getPostcodesBySuburb(String suburbName) throws  ResourceNotFoundException{
+        return Optional.of(awaitResult(findPostcodesBySuburb(suburbName)));
+    }
+
+    /**
+     * @param postcode: passing Postcode parameter
+     * Description : To Fetch the Suburbs details using postcode. Lookups answered from memory complete straight
+     *    away, the others complete once the lookup bulkhead has queried the database.
+     */
+    @Override
+    public CompletableFuture<LookupResult<List<SuburbNameInfo>>> findSuburbsByPostcode(int postcode) {
         // Validations
         if (postcode < 200 || postcode > 9999) {
             throw new IllegalArgumentException("Postcode must be between 200 and 9999.");
         }
         // Process
-        List<SuburbPostcodeEntity> suburbEntityList = suburbPostcodeRepository.findByIdPostcode(postcode);
-        if (suburbEntityList.isEmpty()) {
-            throw new ResourceNotFoundException(String.format("No suburbs found for postcode %d.", postcode));
+        List<String> suburbNames = suburbPostcodeLookup.findSuburbs(postcode);
+        if (!suburbNames.isEmpty()) {
+            return CompletableFuture.completedFuture(LookupResult.fresh(suburbNames.stream()
+                    .map(SuburbNameInfo::new)
+                    .toList()));
         }
-        // response
-        return suburbEntityList.stream()
-                .map(SuburbNameInfo::convertEntityToDTOSuburbNameInfo)
-                .toList();
-
+        return lookupDatabase("postcode:" + postcode,
+                () -> suburbPostcodeRepository.findSuburbNamesByPostcode(postcode))
+                .thenApply(suburbNameInfoList -> {
+                    if (suburbNameInfoList.getValue().isEmpty()) {
+                        throw new ResourceNotFoundException(String.format("No suburbs found for postcode %d.", postcode));
+                    }
+                    // response
+                    return suburbNameInfoList;
+                });
     }
 
     /**
      * @param suburbName : passing Suburb Name parameter
-     * Description : To Fetch the Postcode details using Suburb Name
+     * Description : To Fetch the Postcode details using Suburb Name. Lookups answered from memory complete
+     *    straight away, the others complete once the lookup bulkhead has queried the database.
      */
     @Override
-    public Optional<List<Integer>> getPostcodesBySuburb(String suburbName) throws  ResourceNotFoundException{
+    public CompletableFuture<LookupResult<List<Integer>>> findPostcodesBySuburb(String suburbName) {
         // Validations
         if (suburbName == null || suburbName.isEmpty()) {
             throw new IllegalArgumentException("Suburb name cannot be null or empty.");
         }
         // Process
-        List<Integer> postcodes = suburbPostcodeRepository.findPostcodesBySuburbName(suburbName);
-        if (postcodes.isEmpty()) {
-            throw new ResourceNotFoundException(String.format("No Postcodes found for suburbName %s.", suburbName));
+        List<Integer> cachedPostcodes = suburbPostcodeLookup.findPostcodes(suburbName);
+        if (!cachedPostcodes.isEmpty()) {
+            return CompletableFuture.completedFuture(LookupResult.fresh(cachedPostcodes));
         }
-        // response
-        return Optional.of(postcodes);
+        return lookupDatabase("suburb:" + suburbName,
+                () -> suburbPostcodeRepository.findPostcodesBySuburbName(suburbName))
+                .thenApply(postcodes -> {
+                    if (postcodes.getValue().isEmpty()) {
+                        throw new ResourceNotFoundException(String.format("No Postcodes found for suburbName %s.", suburbName));
+                    }
+                    // response
+                    return postcodes;
+                });
     }
 
     /**
@@ -87,18 +164,128 @@ public class SuburbPostcodeServiceImpl implements SuburbPostcodeService {
 
         // Process
         SuburbPostcodeEntity suburbPostcode = SuburbPostcodeInfo.convertDTOToEntity(suburbPostcodeDTO);
+        SuburbPostcodeEntity savedSuburbPostcode;
+        if (suburbPostcodeWriteBehindQueue.isEnabled()) {
+            // Queued writes are checked for duplicates and committed together with other queued writes
+            savedSuburbPostcode = join(suburbPostcodeWriteBehindQueue.submit(suburbPostcode));
+        } else {
+            savedSuburbPostcode = awaitResult(callDatabase(bulkheads.write(), Optional.empty(), null, () -> {
+                // Check if the combination already exists
+                boolean combinationExists = suburbPostcodeRepository.existsById(suburbPostcode.getId());
+                if (combinationExists) {
+                    throw new IllegalArgumentException("Suburb and postcode combination already exists.");
+                }
 
-        // Check if the combination already exists
-        boolean combinationExists = suburbPostcodeRepository.existsById(suburbPostcode.getId());
-        if (combinationExists) {
-            throw new IllegalArgumentException("Suburb and postcode combination already exists.");
+                // Save the new combination
+                return suburbPostcodeRepository.save(suburbPostcode);
+            }));
         }
-
-        // Save the new combination
-        SuburbPostcodeEntity savedSuburbPostcode = suburbPostcodeRepository.save(suburbPostcode);
+        readYourWritesTracker.recordWrite();
+        suburbPostcodeLookup.recordAddition(savedSuburbPostcode.getId().getSuburbName(), savedSuburbPostcode.getId().getPostcode());
+        suburbPostcodeChangeFeed.publish(savedSuburbPostcode.getId().getSuburbName(), savedSuburbPostcode.getId().getPostcode());
 
         // Convert saved entity back to DTO and return response
         return SuburbPostcodeInfo.convertEntityToDTO(savedSuburbPostcode);
     }
 
+    /**
+     * @param staleKey : passing the key the result is remembered under
+     * @param call : passing the repository call to run
+     * Description : To run a lookup in the lookup bulkhead under the adaptive concurrency limit. Lookups answered
+     *    from memory never get here, so they keep being served while database bound requests are shed. Writes
+     *    are not limited here, the threads and queue of the write bulkhead are their budget.
+     */
+    private <T> CompletableFuture<LookupResult<T>> lookupDatabase(String staleKey, Supplier<T> call) {
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = concurrencyLimiter.tryAcquire();
+        if (permit.isEmpty()) {
+            return lastKnownGood(staleKey, new ServiceUnavailableException("Too many requests are waiting on the database.", 1));
+        }
+        return callDatabase(bulkheads.lookup(), permit, staleKey, call);
+    }
+
+    /**
+     * @param bulkhead : passing the bulkhead the call runs in
+     * @param permit : passing the concurrency limiter permit the call holds, if any
+     * @param staleKey : passing the key the result is remembered under, null when it must never be served stale
+     * @param call : passing the repository call to run
+     * Description : To run a repository call in its bulkhead under the circuit breaker of that bulkhead. When
+     *    the bulkhead is full, the breaker is open or the database times out, the last known good result is
+     *    returned and marked stale, and without one the call fails with a 503.
+     */
+    private <T> CompletableFuture<LookupResult<T>> callDatabase(Bulkhead bulkhead, Optional<AdaptiveConcurrencyLimiter.Permit> permit,
+                                                                String staleKey, Supplier<T> call) {
+        DatabaseCircuitBreaker circuitBreaker = bulkhead.getCircuitBreaker();
+        if (!circuitBreaker.tryAcquirePermission()) {
+            permit.ifPresent(AdaptiveConcurrencyLimiter.Permit::onIgnore);
+            return lastKnownGood(staleKey, new ServiceUnavailableException("Database is unavailable.", circuitBreaker.retryAfterSeconds()));
+        }
+        return bulkhead.submit(call).handle((result, failure) -> {
+            if (failure == null) {
+                permit.ifPresent(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+                circuitBreaker.onSuccess();
+                if (staleKey != null) {
+                    lastKnownGoodStore.put(staleKey, result);
+                }
+                return CompletableFuture.completedFuture(LookupResult.fresh(result));
+            }
+            Throwable e = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            if (e instanceof BulkheadFullException bulkheadFull) {
+                permit.ifPresent(AdaptiveConcurrencyLimiter.Permit::onIgnore);
+                circuitBreaker.onNotAttempted();
+                return this.<T>lastKnownGood(staleKey, bulkheadFull);
+            }
+            if (!DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                permit.ifPresent(AdaptiveConcurrencyLimiter.Permit::onIgnore);
+                circuitBreaker.onSuccess();
+                return CompletableFuture.<LookupResult<T>>failedFuture(e);
+            }
+            permit.ifPresent(AdaptiveConcurrencyLimiter.Permit::onDropped);
+            circuitBreaker.onFailure();
+            // The breaker warns when failures open it, one line per failed call would flood the log during an outage
+            log.debug("Database call failed: {}", e.getMessage());
+            return this.<T>lastKnownGood(staleKey, new ServiceUnavailableException("Database is unavailable.", circuitBreaker.retryAfterSeconds()));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * @param staleKey : passing the key the result was remembered under
+     * @param unavailable : passing the exception the call fails with when there is no remembered result
+     * Description : To fall back to the last known good result of a call.
+     */
+    private <T> CompletableFuture<LookupResult<T>> lastKnownGood(String staleKey, ServiceUnavailableException unavailable) {
+        if (staleKey == null) {
+            return CompletableFuture.failedFuture(unavailable);
+        }
+        Optional<T> stale = lastKnownGoodStore.get(staleKey);
+        return stale.map(value -> CompletableFuture.completedFuture(LookupResult.stale(value)))
+                .orElseGet(() -> CompletableFuture.failedFuture(unavailable));
+    }
+
+    /**
+     * @param pendingResult : passing the future of a database result
+     * Description : To wait for a result on the calling thread, marking a stale result for the response.
+     */
+    private static <T> T awaitResult(CompletableFuture<LookupResult<T>> pendingResult) {
+        LookupResult<T> result = join(pendingResult);
+        if (result.isStale()) {
+            StaleResultMarker.markStale();
+        }
+        return result.getValue();
+    }
+
+    /**
+     * @param pending : passing a future
+     * Description : To wait for a future, rethrowing the failure it completed with.
+     */
+    private static <T> T join(CompletableFuture<T> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
 }
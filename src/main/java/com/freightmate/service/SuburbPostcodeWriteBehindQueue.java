@@ -0,0 +1,218 @@
+package com.freightmate.service;
+
+import com.freightmate.datasource.WriteConnectionPool;
+import com.freightmate.entity.SuburbPostcodeEntity;
+import com.freightmate.entity.SuburbPostcodeId;
+import com.freightmate.exception.ServiceUnavailableException;
+import com.freightmate.repository.SuburbPostcodeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeWriteBehindQueue bounded queue of new suburb and postcode combinations written in
+ *    group commits. Enabled with freightmate.write.mode=write-behind. A single writer thread collects up to
+ *    batch-size records, or whatever arrived within max-delay-ms of the first one, and inserts them in one
+ *    transaction. Each caller's future completes only after that transaction has committed. The writer thread takes
+ *    its connections from the WriteConnectionPool.
+ */
+@Component
+public class SuburbPostcodeWriteBehindQueue {
+
+    private static final String DUPLICATE_MESSAGE = "Suburb and postcode combination already exists.";
+
+    private final Logger logger = LoggerFactory.getLogger(SuburbPostcodeWriteBehindQueue.class);
+
+    private final SuburbPostcodeRepository suburbPostcodeRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteConnectionPool writeConnectionPool;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxDelayMillis;
+    private final BlockingQueue<PendingWrite> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public SuburbPostcodeWriteBehindQueue(SuburbPostcodeRepository suburbPostcodeRepository,
+                                          EntityManager entityManager,
+                                          PlatformTransactionManager transactionManager,
+                                          WriteConnectionPool writeConnectionPool,
+                                          @Value("${freightmate.write.mode:direct}") String writeMode,
+                                          @Value("${freightmate.write.queue-capacity:10000}") int queueCapacity,
+                                          @Value("${freightmate.write.batch-size:500}") int batchSize,
+                                          @Value("${freightmate.write.max-delay-ms:10}") long maxDelayMillis) {
+        this.suburbPostcodeRepository = suburbPostcodeRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeConnectionPool = writeConnectionPool;
+        this.enabled = "write-behind".equals(writeMode);
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(writeConnectionPool.asWriter(this::drain), "suburb-postcode-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Description : To stop accepting writes and flush whatever is still queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param entity: passing entity parameter
+     * Description : To queue a new combination, the future completes with the entity once it is committed or
+     *    exceptionally with IllegalArgumentException when the combination already exists.
+     */
+    public CompletableFuture<SuburbPostcodeEntity> submit(SuburbPostcodeEntity entity) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Write queue is not running.", 1));
+        }
+        PendingWrite write = new PendingWrite(entity);
+        if (!queue.offer(write)) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Write queue is full.", 1));
+        }
+        return write.result;
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+                while (batch.size() < batchSize) {
+                    PendingWrite next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error in suburb and postcode writer.", e);
+                batch.forEach(write -> write.result.completeExceptionally(e));
+            }
+            batch.clear();
+        }
+        PendingWrite left;
+        while ((left = queue.poll()) != null) {
+            left.result.completeExceptionally(new ServiceUnavailableException("Write queue is not running.", 1));
+        }
+    }
+
+    /**
+     * @param batch: passing batch parameter
+     * Description : To insert a batch in one transaction. When the commit fails, for example because another
+     *    instance inserted one of the rows meanwhile, every row is retried in its own transaction so that only
+     *    the offending rows fail.
+     */
+    void flush(List<PendingWrite> batch) {
+        List<PendingWrite> accepted;
+        try {
+            accepted = transactionTemplate.execute(status -> insert(batch));
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} rows failed, retrying rows one by one: {}", batch.size(), e.getMessage());
+            for (PendingWrite write : batch) {
+                if (write.result.isDone()) {
+                    continue;
+                }
+                try {
+                    transactionTemplate.execute(status -> insert(List.of(write)))
+                            .forEach(PendingWrite::complete);
+                } catch (RuntimeException rowFailure) {
+                    write.result.completeExceptionally(rowFailure);
+                }
+            }
+            return;
+        }
+        if (accepted != null) {
+            accepted.forEach(PendingWrite::complete);
+        }
+    }
+
+    /**
+     * @param batch: passing batch parameter
+     * Description : To persist the new rows of a batch. Existing rows are found with one query up front, a query
+     *    per row would flush the rows persisted before it and send the inserts one at a time.
+     */
+    private List<PendingWrite> insert(List<PendingWrite> batch) {
+        Set<SuburbPostcodeId> seen = new HashSet<>(suburbPostcodeRepository.findExistingIds(
+                batch.stream().map(write -> write.entity.getId()).collect(Collectors.toSet())));
+        List<PendingWrite> accepted = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            SuburbPostcodeId id = write.entity.getId();
+            if (!seen.add(id)) {
+                write.result.completeExceptionally(new IllegalArgumentException(DUPLICATE_MESSAGE));
+                continue;
+            }
+            entityManager.persist(write.entity);
+            accepted.add(write);
+        }
+        return accepted;
+    }
+
+    /**
+     * @author Hrishikesh.Lotekar
+     * @implNote A queued record and the future its caller waits on.
+     */
+    static final class PendingWrite {
+        private final SuburbPostcodeEntity entity;
+        private final CompletableFuture<SuburbPostcodeEntity> result = new CompletableFuture<>();
+
+        PendingWrite(SuburbPostcodeEntity entity) {
+            this.entity = entity;
+        }
+
+        private void complete() {
+            result.complete(entity);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.freightmate.tracing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote FileSpanExporter appends finished spans to freightmate.tracing.file, one JSON object per line using
+ *    the OTLP span field names, for a collector to tail. Spans are written by a background thread; when its queue
+ *    is full spans are dropped and counted rather than slowing requests down.
+ */
+@Component
+public class FileSpanExporter implements SpanExporter, MeterBinder {
+
+    private final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final Path file;
+    private final BlockingQueue<Span> queue;
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public FileSpanExporter(@Value("${freightmate.tracing.file:traces.jsonl}") String file,
+                            @Value("${freightmate.tracing.queue-capacity:10000}") int queueCapacity) {
+        this.file = Path.of(file);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeSpans, "span-exporter");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!queue.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getExported() {
+        return exported.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("freightmate.tracing.spans", exported, AtomicLong::get)
+                .tag("result", "exported")
+                .description("Spans written to the trace file")
+                .register(registry);
+        FunctionCounter.builder("freightmate.tracing.spans", dropped, AtomicLong::get)
+                .tag("result", "dropped")
+                .description("Spans dropped because the exporter fell behind")
+                .register(registry);
+    }
+
+    private void writeSpans() {
+        List<Span> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Span first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                if (queue.isEmpty()) {
+                    break;
+                }
+            }
+            queue.drainTo(batch);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Span> batch) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Span span : batch) {
+                out.write(toJson(span));
+                out.newLine();
+            }
+            exported.addAndGet(batch.size());
+        } catch (IOException e) {
+            dropped.addAndGet(batch.size());
+            logger.warn("Could not write {} spans to {}: {}", batch.size(), file, e.getMessage());
+        }
+    }
+
+    static String toJson(Span span) {
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"traceId\":\"").append(span.getTraceId())
+                .append("\",\"spanId\":\"").append(span.getSpanId()).append('"');
+        if (span.getParentSpanId() != null) {
+            json.append(",\"parentSpanId\":\"").append(span.getParentSpanId()).append('"');
+        }
+        json.append(",\"name\":");
+        appendString(json, span.getName());
+        json.append(",\"startTimeUnixNano\":").append(span.getStartEpochNanos())
+                .append(",\"endTimeUnixNano\":").append(span.getStartEpochNanos() + span.getDurationNanos())
+                .append(",\"attributes\":{");
+        boolean first = true;
+        for (Map.Entry<String, String> attribute : span.getAttributes().entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendString(json, attribute.getKey());
+            json.append(':');
+            appendString(json, attribute.getValue());
+        }
+        return json.append("}}").toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,110 @@
+package com.freightmate.tracing;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Span one timed operation of a sampled trace. Closing the span records its end, hands it to the exporter
+ *    and makes its parent the current span again. Outside a sampled trace the shared {@link #NOOP} span is handed
+ *    out, which records nothing.
+ */
+public class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span();
+
+    private final Tracer tracer;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final Span parent;
+    private final String name;
+    private final long startEpochNanos;
+    private final long startNanos;
+    private final Map<String, String> attributes;
+    private long durationNanos = -1;
+
+    private Span() {
+        this(null, null, null, null, null, null);
+    }
+
+    Span(Tracer tracer, String traceId, String spanId, String parentSpanId, Span parent, String name) {
+        this.tracer = tracer;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.parent = parent;
+        this.name = name;
+        Instant now = Instant.now();
+        this.startEpochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        this.startNanos = System.nanoTime();
+        this.attributes = tracer == null ? Map.of() : new LinkedHashMap<>();
+    }
+
+    public boolean isSampled() {
+        return this != NOOP;
+    }
+
+    /**
+     * @param key: passing attribute name parameter
+     * @param value: passing attribute value parameter
+     * Description : To record an attribute on the span.
+     */
+    public Span tag(String key, Object value) {
+        if (this != NOOP) {
+            attributes.put(key, String.valueOf(value));
+        }
+        return this;
+    }
+
+    /**
+     * @param e: passing the exception the operation failed with
+     * Description : To record that the operation failed.
+     */
+    public Span error(Throwable e) {
+        return tag("error", e.getClass().getName());
+    }
+
+    @Override
+    public void close() {
+        if (this == NOOP) {
+            return;
+        }
+        durationNanos = System.nanoTime() - startNanos;
+        tracer.finish(this);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    Span getParent() {
+        return parent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
@@ -0,0 +1,11 @@
+package com.freightmate.tracing;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SpanExporter receives every finished span of a sampled trace. Called on the thread that closed the
+ *    span, so implementations must not block.
+ */
+public interface SpanExporter {
+
+    void export(Span span);
+}
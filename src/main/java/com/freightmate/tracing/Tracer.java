@@ -0,0 +1,168 @@
+package com.freightmate.tracing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote Tracer head-based sampled tracing. Whether a request is traced is decided once, when its root span is
+ *    started: an incoming W3C traceparent header is followed, otherwise freightmate.tracing.sample-rate of the
+ *    requests are sampled. Spans of a request that is not sampled are the shared no-op span, so tracing costs a
+ *    thread local lookup per span. As a TaskDecorator it carries the current span over to work handed to other
+ *    threads.
+ */
+@Component
+public class Tracer implements TaskDecorator {
+
+    private final ThreadLocal<Span> currentSpan = new ThreadLocal<>();
+    private final SpanExporter spanExporter;
+    private final double sampleRate;
+    private final DoubleSupplier random;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    @Autowired
+    public Tracer(SpanExporter spanExporter, @Value("${freightmate.tracing.sample-rate:0.01}") double sampleRate) {
+        this(spanExporter, sampleRate, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    Tracer(SpanExporter spanExporter, double sampleRate, DoubleSupplier random) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1.");
+        }
+        this.spanExporter = spanExporter;
+        this.sampleRate = sampleRate;
+        this.random = random;
+    }
+
+    /**
+     * @param name: passing span name parameter
+     * @param traceparent: passing the W3C traceparent header of the request, may be null
+     * Description : To start the root span of a request and make it the current span, or the no-op span when the
+     *    request is not sampled.
+     */
+    public Span startTrace(String name, String traceparent) {
+        TraceParent parent = TraceParent.parse(traceparent);
+        boolean sampled = parent != null ? parent.sampled : sampleRate > 0 && random.getAsDouble() < sampleRate;
+        if (!sampled) {
+            currentSpan.remove();
+            return Span.NOOP;
+        }
+        Span span = new Span(this, parent != null ? parent.traceId : randomHex(32), randomHex(16),
+                parent != null ? parent.spanId : null, null, name);
+        currentSpan.set(span);
+        return span;
+    }
+
+    /**
+     * @param name: passing span name parameter
+     * Description : To start a child of the current span and make it the current span, or the no-op span outside a
+     *    sampled trace.
+     */
+    public Span startSpan(String name) {
+        Span parent = currentSpan.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        Span span = new Span(this, parent.getTraceId(), randomHex(16), parent.getSpanId(), parent, name);
+        currentSpan.set(span);
+        return span;
+    }
+
+    public boolean isTracing() {
+        return currentSpan.get() != null;
+    }
+
+    /**
+     * Description : To forget the current span of the calling thread once its request is done.
+     */
+    public void clear() {
+        currentSpan.remove();
+    }
+
+    void finish(Span span) {
+        if (currentSpan.get() == span) {
+            if (span.getParent() != null) {
+                currentSpan.set(span.getParent());
+            } else {
+                currentSpan.remove();
+            }
+        }
+        spanExporter.export(span);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Span span = currentSpan.get();
+        if (span == null) {
+            return runnable;
+        }
+        return () -> {
+            Span previous = currentSpan.get();
+            currentSpan.set(span);
+            try {
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    currentSpan.set(previous);
+                } else {
+                    currentSpan.remove();
+                }
+            }
+        };
+    }
+
+    private static String randomHex(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i += 16) {
+            String part = Long.toHexString(random.nextLong());
+            hex.append("0".repeat(16 - part.length())).append(part);
+        }
+        return hex.substring(0, length);
+    }
+
+    /**
+     * @implNote TraceParent the parts of a W3C traceparent header, e.g.
+     *    00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01
+     */
+    private static final class TraceParent {
+
+        private final String traceId;
+        private final String spanId;
+        private final boolean sampled;
+
+        private TraceParent(String traceId, String spanId, boolean sampled) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.sampled = sampled;
+        }
+
+        private static TraceParent parse(String header) {
+            if (header == null) {
+                return null;
+            }
+            String[] parts = header.trim().split("-");
+            if (parts.length < 4 || parts[1].length() != 32 || parts[2].length() != 16 || parts[3].length() != 2
+                    || !isHex(parts[1]) || !isHex(parts[2]) || !isHex(parts[3])) {
+                return null;
+            }
+            return new TraceParent(parts[1], parts[2], (Integer.parseInt(parts[3], 16) & 1) == 1);
+        }
+
+        private static boolean isHex(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (Character.digit(value.charAt(i), 16) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
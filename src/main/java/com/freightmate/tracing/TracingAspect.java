@@ -0,0 +1,56 @@
+package com.freightmate.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote TracingAspect spans around the methods of the suburb and postcode controllers, service and repository.
+ *    Outside a sampled trace the call goes straight through.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * com.freightmate.controller.SuburbPostcodeController.*(..))"
+            + " || execution(public * com.freightmate.controller.SuburbPostcodeAsyncController.*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
+    }
+
+    @Around("execution(public * com.freightmate.service.SuburbPostcodeServiceImpl.*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service");
+    }
+
+    @Around("this(com.freightmate.repository.SuburbPostcodeRepository)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        try (Span span = tracer.startSpan(layer + " " + joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName())) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.freightmate.tracing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote TracingDataSource spans around taking a connection from the pool, which covers waiting for a free
+ *    connection when the pool is exhausted.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    private final Supplier<Tracer> tracerSupplier;
+    private volatile Tracer tracer;
+
+    /**
+     * @param targetDataSource: passing the pool parameter
+     * @param tracerSupplier: passing tracer parameter, looked up on first use
+     */
+    public TracingDataSource(DataSource targetDataSource, Supplier<Tracer> tracerSupplier) {
+        super(targetDataSource);
+        this.tracerSupplier = tracerSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Tracer currentTracer = tracer();
+        if (!currentTracer.isTracing()) {
+            return super.getConnection();
+        }
+        try (Span span = currentTracer.startSpan("db.connection.acquire")) {
+            try {
+                return super.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+
+    private Tracer tracer() {
+        Tracer currentTracer = tracer;
+        if (currentTracer == null) {
+            currentTracer = tracerSupplier.get();
+            tracer = currentTracer;
+        }
+        return currentTracer;
+    }
+}
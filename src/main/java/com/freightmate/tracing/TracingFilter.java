@@ -0,0 +1,93 @@
+package com.freightmate.tracing;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote TracingFilter starts the root span of each request. The root span covers writing the response, so the
+ *    time it spends outside the controller span is mostly serialization. Asynchronous requests end their root span
+ *    once the response is complete.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Span span = tracer.startTrace(request.getMethod() + " " + request.getRequestURI(), request.getHeader(TRACEPARENT_HEADER));
+        if (!span.isSampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        span.tag("http.method", request.getMethod()).tag("http.target", request.getRequestURI());
+        response.setHeader(TRACE_ID_HEADER, span.getTraceId());
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new SpanClosingListener(span, response));
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            if (!async) {
+                span.tag("http.status_code", response.getStatus()).close();
+            }
+            tracer.clear();
+        }
+    }
+
+    /**
+     * @implNote SpanClosingListener ends the root span of an asynchronous request.
+     */
+    private static final class SpanClosingListener implements AsyncListener {
+
+        private final Span span;
+        private final HttpServletResponse response;
+
+        private SpanClosingListener(Span span, HttpServletResponse response) {
+            this.span = span;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            span.tag("http.status_code", response.getStatus()).close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            span.tag("timeout", true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (event.getThrowable() != null) {
+                span.error(event.getThrowable());
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // The span stays open until the request completes
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.freightmate.warmup;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote StartupPhase the phases of startup recorded on the {@link StartupTimeline}, in the order they run.
+ */
+public enum StartupPhase {
+
+    /**
+     * JVM start until the application context is refreshed and the web server is listening.
+     */
+    CONTEXT("context"),
+
+    /**
+     * Opening the connections of the main pool.
+     */
+    CONNECTIONS("connections"),
+
+    /**
+     * Building the in-memory lookup index.
+     */
+    LOOKUP_INDEX("lookup-index"),
+
+    /**
+     * Synthetic lookups run until their latency is stable.
+     */
+    SYNTHETIC_TRAFFIC("synthetic-traffic");
+
+    private final String tag;
+
+    StartupPhase(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
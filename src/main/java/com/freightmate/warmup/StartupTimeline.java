@@ -0,0 +1,112 @@
+package com.freightmate.warmup;
+
+import com.freightmate.dto.StartupPhaseReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote StartupTimeline keeps how long each {@link StartupPhase} took, published per phase as the
+ *    freightmate.startup.phase metric and through the warmup actuator endpoint, so cold-start cost can be compared
+ *    between deploys.
+ */
+@Component
+public class StartupTimeline implements MeterBinder {
+
+    private final long jvmStartMillis;
+    private final Map<StartupPhase, StartupPhaseReport> phases = new ConcurrentHashMap<>();
+    private volatile long readyOffsetMillis = -1;
+
+    public StartupTimeline() {
+        this(ManagementFactory.getRuntimeMXBean().getStartTime());
+    }
+
+    StartupTimeline(long jvmStartMillis) {
+        this.jvmStartMillis = jvmStartMillis;
+    }
+
+    /**
+     * @param phase: passing phase parameter
+     * @param startMillis: passing startMillis parameter, epoch milliseconds the phase started at
+     * @param endMillis: passing endMillis parameter, epoch milliseconds the phase ended at
+     * @param detail: passing detail parameter, a short note on the outcome
+     * Description : To record a finished phase.
+     */
+    public void record(StartupPhase phase, long startMillis, long endMillis, String detail) {
+        phases.put(phase, StartupPhaseReport.builder()
+                .phase(phase.getTag())
+                .startOffsetMillis(startMillis - jvmStartMillis)
+                .durationMillis(endMillis - startMillis)
+                .detail(detail)
+                .build());
+    }
+
+    /**
+     * @param readyMillis: passing readyMillis parameter, epoch milliseconds the application started accepting traffic
+     */
+    public void markReady(long readyMillis) {
+        readyOffsetMillis = readyMillis - jvmStartMillis;
+    }
+
+    /**
+     * Description : Readiness turns to accepting traffic once the warm-up is done and the application is ready.
+     */
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && readyOffsetMillis < 0) {
+            markReady(event.getTimestamp());
+        }
+    }
+
+    public long getJvmStartMillis() {
+        return jvmStartMillis;
+    }
+
+    /**
+     * Description : Milliseconds from JVM start until the application accepted traffic, -1 while still warming up.
+     */
+    public long getReadyOffsetMillis() {
+        return readyOffsetMillis;
+    }
+
+    /**
+     * Description : The recorded phases in the order they run.
+     */
+    public List<StartupPhaseReport> getPhases() {
+        List<StartupPhaseReport> reports = new ArrayList<>();
+        for (StartupPhase phase : StartupPhase.values()) {
+            StartupPhaseReport report = phases.get(phase);
+            if (report != null) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (StartupPhase phase : StartupPhase.values()) {
+            TimeGauge.builder("freightmate.startup.phase", phases, TimeUnit.MILLISECONDS,
+                            recorded -> recorded.containsKey(phase) ? recorded.get(phase).getDurationMillis() : Double.NaN)
+                    .tag("phase", phase.getTag())
+                    .description("Time spent in each startup phase")
+                    .register(registry);
+        }
+        TimeGauge.builder("freightmate.startup.ready", this, TimeUnit.MILLISECONDS,
+                        timeline -> timeline.readyOffsetMillis < 0 ? Double.NaN : timeline.readyOffsetMillis)
+                .description("Time from JVM start until the application accepted traffic")
+                .register(registry);
+    }
+}
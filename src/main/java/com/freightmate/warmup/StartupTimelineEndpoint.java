@@ -0,0 +1,38 @@
+package com.freightmate.warmup;
+
+import com.freightmate.dto.StartupPhaseReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote StartupTimelineEndpoint actuator endpoint at /actuator/warmup listing the startup phases.
+ */
+@Component
+@Endpoint(id = "warmup")
+public class StartupTimelineEndpoint {
+
+    private final StartupTimeline startupTimeline;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public StartupTimelineEndpoint(StartupTimeline startupTimeline) {
+        this.startupTimeline = startupTimeline;
+    }
+
+    @ReadOperation
+    public Map<String, Object> timeline() {
+        List<StartupPhaseReport> phases = startupTimeline.getPhases();
+        Map<String, Object> timeline = new LinkedHashMap<>();
+        timeline.put("ready", startupTimeline.getReadyOffsetMillis() >= 0);
+        timeline.put("readyOffsetMillis", startupTimeline.getReadyOffsetMillis());
+        timeline.put("phases", phases);
+        return timeline;
+    }
+}
@@ -0,0 +1,281 @@
+package com.freightmate.warmup;
+
+import com.freightmate.dto.DatasetReloadReport;
+import com.freightmate.lookup.SuburbPostcodeIndex;
+import com.freightmate.lookup.SuburbPostcodeLookup;
+import com.freightmate.lookup.SuburbPostcodeLookupLoader;
+import com.freightmate.repository.SuburbPostcodeRepository;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static com.freightmate.configuration.MessageConverterConfiguration.APPLICATION_SMILE_VALUE;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote WarmupRunner warms the application up before it reports ready. Spring Boot only turns readiness to
+ *    accepting traffic after the application runners have finished, so the readiness probe stays down while this
+ *    runs: the main pool's connections are opened, the in-memory lookup index is built and the lookup endpoints are
+ *    called over HTTP on the embedded server with synthetic keys until their mean latency stops changing between
+ *    rounds, so Tomcat, the filters, argument binding and the message converters are warm as well as the lookups.
+ *    Each phase is recorded on the {@link StartupTimeline}. A failing phase is logged and skipped, it never keeps the application from starting.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final int SAMPLE_KEYS = 1000;
+    private static final String LOCAL_SERVER_PORT = "local.server.port";
+    private static final List<String> LOOKUP_PATHS = List.of("/api/v1", "/api/v1/async");
+    private static final List<String> FORMATS = List.of(MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final DataSource dataSource;
+    private final SuburbPostcodeLookupLoader suburbPostcodeLookupLoader;
+    private final SuburbPostcodeLookup suburbPostcodeLookup;
+    private final Environment environment;
+    private final EntityManagerFactory entityManagerFactory;
+    private final StartupTimeline startupTimeline;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int connections;
+    private final int roundSize;
+    private final double missRatio;
+    private final double stableTolerance;
+    private final int stableRounds;
+    private final long maxDurationMillis;
+
+    /**
+     * Description : Implementing Constructor based dependency Injection.
+     */
+    public WarmupRunner(DataSource dataSource,
+                        SuburbPostcodeLookupLoader suburbPostcodeLookupLoader,
+                        SuburbPostcodeLookup suburbPostcodeLookup,
+                        Environment environment,
+                        EntityManagerFactory entityManagerFactory,
+                        StartupTimeline startupTimeline,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${freightmate.warmup.enabled:true}") boolean enabled,
+                        @Value("${freightmate.warmup.connections:10}") int connections,
+                        @Value("${freightmate.warmup.round-size:500}") int roundSize,
+                        @Value("${freightmate.warmup.miss-ratio:0.1}") double missRatio,
+                        @Value("${freightmate.warmup.stable-tolerance:0.1}") double stableTolerance,
+                        @Value("${freightmate.warmup.stable-rounds:3}") int stableRounds,
+                        @Value("${freightmate.warmup.max-duration-ms:30000}") long maxDurationMillis) {
+        this.dataSource = dataSource;
+        this.suburbPostcodeLookupLoader = suburbPostcodeLookupLoader;
+        this.suburbPostcodeLookup = suburbPostcodeLookup;
+        this.environment = environment;
+        this.entityManagerFactory = entityManagerFactory;
+        this.startupTimeline = startupTimeline;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.connections = connections;
+        this.roundSize = roundSize;
+        this.missRatio = missRatio;
+        this.stableTolerance = stableTolerance;
+        this.stableRounds = stableRounds;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.currentTimeMillis();
+        startupTimeline.record(StartupPhase.CONTEXT, startupTimeline.getJvmStartMillis(), start, null);
+
+        if (enabled) {
+            timed(StartupPhase.CONNECTIONS, this::openConnections);
+        }
+        timed(StartupPhase.LOOKUP_INDEX, this::preloadLookup);
+        if (enabled) {
+            timed(StartupPhase.SYNTHETIC_TRAFFIC, this::sendSyntheticTraffic);
+        }
+        logger.info("Warm-up finished in {} ms: {}", System.currentTimeMillis() - start, startupTimeline.getPhases());
+    }
+
+    private void timed(StartupPhase phase, Supplier<String> action) {
+        long start = System.currentTimeMillis();
+        String detail;
+        try {
+            detail = action.get();
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up phase {} failed, continuing without it: {}", phase.getTag(), e.getMessage());
+            detail = "failed: " + e.getMessage();
+        }
+        startupTimeline.record(phase, start, System.currentTimeMillis(), detail);
+    }
+
+    /**
+     * Description : To open the main pool's connections up front by holding that many at once. Each one is
+     *    validated, so a lazily connecting proxy really connects.
+     */
+    private String openConnections() {
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                connection.isValid(1);
+            }
+            return opened.size() + " connections";
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not open connection " + (opened.size() + 1) + ": " + e.getMessage(), e);
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    logger.debug("Could not return warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private String preloadLookup() {
+        DatasetReloadReport report = suburbPostcodeLookupLoader.preload().join();
+        return report == null ? "not loaded" : report.getCurrentRows() + " rows";
+    }
+
+    /**
+     * Description : To call both lookups, on the synchronous and the asynchronous endpoints and in every response
+     *    format, in rounds of round-size requests, with miss-ratio of them for keys that are not in the dataset so
+     *    the database path runs too, until the mean latency of stable-rounds rounds in a row is within
+     *    stable-tolerance of the round before, or max-duration-ms has passed. The misses leave empty results in the
+     *    lookup query cache region, which is evicted afterwards.
+     */
+    private String sendSyntheticTraffic() {
+        Integer port = environment.getProperty(LOCAL_SERVER_PORT, Integer.class);
+        if (port == null) {
+            return "skipped: no web server";
+        }
+        List<Integer> postcodes = new ArrayList<>();
+        List<String> suburbNames = new ArrayList<>();
+        sampleKeys(suburbPostcodeLookup.getIndex(), postcodes, suburbNames);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        String baseUri = "http://localhost:" + port;
+        long deadline = System.currentTimeMillis() + maxDurationMillis;
+        List<Double> roundMeans = new ArrayList<>();
+        int failed = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            while (!isStable(roundMeans, stableTolerance, stableRounds) && System.currentTimeMillis() < deadline) {
+                long roundStart = System.nanoTime();
+                for (int i = 0; i < roundSize; i++) {
+                    boolean miss = postcodes.isEmpty() || random.nextDouble() < missRatio;
+                    UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(baseUri)
+                            .path(LOOKUP_PATHS.get(i / 2 % LOOKUP_PATHS.size()));
+                    if (i % 2 == 0) {
+                        uri.path("/suburbs/" + (miss ? random.nextInt(200, SuburbPostcodeIndex.MAX_POSTCODE + 1)
+                                : postcodes.get(random.nextInt(postcodes.size()))));
+                    } else {
+                        uri.path("/postcodes").queryParam("suburbName", miss
+                                ? "WARMUP " + random.nextInt(1_000_000)
+                                : suburbNames.get(random.nextInt(suburbNames.size())));
+                    }
+                    if (!get(httpClient, uri.encode().build().toUri(), FORMATS.get(i / 4 % FORMATS.size()))) {
+                        failed++;
+                    }
+                }
+                roundMeans.add((System.nanoTime() - roundStart) / 1000.0 / roundSize);
+            }
+        } finally {
+            evictLookupQueryCache();
+        }
+        return String.format("%d rounds, %s, mean %.1f us per request%s", roundMeans.size(),
+                isStable(roundMeans, stableTolerance, stableRounds) ? "stable" : "not stable",
+                roundMeans.isEmpty() ? 0.0 : roundMeans.get(roundMeans.size() - 1),
+                failed == 0 ? "" : ", " + failed + " failed");
+    }
+
+    /**
+     * @param httpClient: passing httpClient parameter
+     * @param uri: passing uri parameter
+     * @param format: passing format parameter, media type asked for in the Accept header
+     * Description : To send one lookup and read the whole response. Found and not found both count as answered.
+     */
+    private static boolean get(HttpClient httpClient, URI uri, String format) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.ACCEPT, format)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status == 200 || status == 404;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not call " + uri.getPath() + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted calling " + uri.getPath(), e);
+        }
+    }
+
+    private void evictLookupQueryCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(SuburbPostcodeRepository.LOOKUP_CACHE_REGION);
+    }
+
+    private static void sampleKeys(SuburbPostcodeIndex index, List<Integer> postcodes, List<String> suburbNames) {
+        int stride = Math.max(1, index.size() / SAMPLE_KEYS);
+        int[] position = new int[1];
+        index.forEach((suburbName, postcode) -> {
+            if (position[0]++ % stride == 0) {
+                postcodes.add(postcode);
+                suburbNames.add(suburbName);
+            }
+        });
+    }
+
+    /**
+     * @param roundMeans: passing roundMeans parameter, mean latency of each round so far
+     * @param tolerance: passing tolerance parameter, largest relative change still counted as stable
+     * @param rounds: passing rounds parameter, number of stable rounds in a row needed
+     * Description : To tell whether the last rounds each stayed within tolerance of the round before them.
+     */
+    static boolean isStable(List<Double> roundMeans, double tolerance, int rounds) {
+        if (roundMeans.size() <= rounds) {
+            return false;
+        }
+        for (int i = roundMeans.size() - rounds; i < roundMeans.size(); i++) {
+            double previous = roundMeans.get(i - 1);
+            if (Math.abs(roundMeans.get(i) - previous) > tolerance * previous) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
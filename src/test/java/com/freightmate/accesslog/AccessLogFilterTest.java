@@ -0,0 +1,74 @@
+package com.freightmate.accesslog;
+
+import com.freightmate.tracing.TracingFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServletResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AccessLogFilterTest Test Class for sampled access logging
+ */
+class AccessLogFilterTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Description : Test successful reads are sampled while errors and writes are always written to the log file.
+     */
+    @Test
+    void testSamplesSuccessfulReadsAndKeepsErrorsAndWrites() throws Exception {
+        Path file = directory.resolve("access.jsonl");
+        AccessLogWriter writer = new AccessLogWriter(file.toString(), 16, 200);
+        AccessLogFilter filter = new AccessLogFilter(writer, 0.05, () -> 0.5);
+
+        filter.doFilter(request("GET", "/api/v1/suburbs/2849"), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse notFound = new MockHttpServletResponse();
+        notFound.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        notFound.setHeader(TracingFilter.TRACE_ID_HEADER, "4bf92f3577b34da6a3ce929d0e0e4736");
+        MockHttpServletRequest lookup = request("GET", "/api/v1/postcodes");
+        lookup.setQueryString("suburbName=Nowhere");
+        filter.doFilter(lookup, notFound, new MockFilterChain());
+
+        filter.doFilter(request("POST", "/api/v1/suburbs"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(2, writer.flush());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"method\":\"GET\",\"uri\":\"/api/v1/postcodes\",\"query\":\"suburbName=Nowhere\""));
+        assertTrue(lines.get(0).contains("\"status\":404"));
+        assertTrue(lines.get(0).contains("\"traceId\":\"4bf92f3577b34da6a3ce929d0e0e4736\""));
+        assertTrue(lines.get(1).contains("\"method\":\"POST\""));
+        assertEquals(2, writer.getWritten());
+    }
+
+    /**
+     * Description : Test records that do not fit in the buffer are dropped and counted.
+     */
+    @Test
+    void testDropsRecordsWhenBufferIsFull() {
+        AccessLogWriter writer = new AccessLogWriter(directory.resolve("access.jsonl").toString(), 2, 200);
+
+        for (int i = 0; i < 5; i++) {
+            writer.append(new AccessLogRecord(0, "POST", "/api/v1/suburbs", null, 201, 0, null, null));
+        }
+
+        assertEquals(3, writer.getDropped());
+        assertEquals(2, writer.flush());
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,84 @@
+package com.freightmate.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AccessLogRingBufferTest Test Class for the lock-free access log ring buffer
+ */
+class AccessLogRingBufferTest {
+
+    /**
+     * Description : Test records are drained in the order they were added and a full buffer refuses new records.
+     */
+    @Test
+    void testDrainsInOrderAndRefusesWhenFull() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(record(i)));
+        }
+        assertFalse(buffer.offer(record(4)));
+
+        List<Integer> statuses = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(accessLogRecord -> statuses.add(accessLogRecord.getStatus()), 2));
+        assertTrue(buffer.offer(record(5)));
+        assertEquals(3, buffer.drainTo(accessLogRecord -> statuses.add(accessLogRecord.getStatus()), 10));
+
+        assertEquals(List.of(0, 1, 2, 3, 5), statuses);
+        assertEquals(0, buffer.drainTo(accessLogRecord -> fail("Buffer should be empty"), 10));
+    }
+
+    /**
+     * Description : Test every record added concurrently is either drained exactly once or refused.
+     */
+    @Test
+    void testConcurrentProducersLoseNothing() throws InterruptedException {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (!buffer.offer(record(base + i))) {
+                        refused.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> drained = new HashSet<>();
+        int[] duplicates = new int[1];
+        while (done.getCount() > 0) {
+            buffer.drainTo(accessLogRecord -> duplicates[0] += drained.add(accessLogRecord.getStatus()) ? 0 : 1, 32);
+        }
+        buffer.drainTo(accessLogRecord -> duplicates[0] += drained.add(accessLogRecord.getStatus()) ? 0 : 1, 64);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(0, duplicates[0]);
+        assertEquals(producers * perProducer, drained.size() + refused.get());
+    }
+
+    private static AccessLogRecord record(int status) {
+        return new AccessLogRecord(0, "GET", "/api/v1/suburbs/2849", null, status, 0, null, null);
+    }
+}
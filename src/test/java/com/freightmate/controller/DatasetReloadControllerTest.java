@@ -0,0 +1,112 @@
+package com.freightmate.controller;
+
+import com.freightmate.dto.DatasetReloadReport;
+import com.freightmate.exception.ReloadInProgressException;
+import com.freightmate.lookup.SuburbPostcodeLookupLoader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote DatasetReloadControllerTest Controller Test Class
+ */
+@WebMvcTest(controllers = DatasetReloadController.class, properties = "freightmate.dataset.reload-token=secret")
+class DatasetReloadControllerTest {
+
+    @MockBean
+    private SuburbPostcodeLookupLoader suburbPostcodeLookupLoader;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Description : Test a database reload returns the reload report
+     */
+    @Test
+    void testReloadFromDatabase() throws Exception {
+        DatasetReloadReport report = DatasetReloadReport.builder()
+                .source("database").buildMillis(12).previousRows(1).currentRows(2).addedRows(1).removedRows(0)
+                .build();
+        when(suburbPostcodeLookupLoader.reloadFromDatabase()).thenReturn(CompletableFuture.completedFuture(report));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/dataset/reload").header(DatasetReloadController.ADMIN_TOKEN_HEADER, "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // A reload is not cut short by an async request timeout
+        assertEquals(0, result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentRows").value(2))
+                .andExpect(jsonPath("$.addedRows").value(1));
+    }
+
+    /**
+     * Description : Test a reload already in progress is reported as a conflict
+     */
+    @Test
+    void testReloadAlreadyRunning() throws Exception {
+        when(suburbPostcodeLookupLoader.reloadFromDatabase())
+                .thenReturn(CompletableFuture.failedFuture(new ReloadInProgressException("A dataset reload is already running.")));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/dataset/reload").header(DatasetReloadController.ADMIN_TOKEN_HEADER, "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict());
+    }
+
+    /**
+     * Description : Test a file reload without a path is rejected
+     */
+    @Test
+    void testReloadFromFileWithoutPath() throws Exception {
+        mockMvc.perform(post("/api/v1/dataset/reload").header(DatasetReloadController.ADMIN_TOKEN_HEADER, "secret").param("source", "file"))
+                .andExpect(status().isBadRequest());
+
+        verify(suburbPostcodeLookupLoader, never()).reloadFromFile(anyString());
+    }
+
+    /**
+     * Description : Test an unrelated IllegalStateException is an internal error, not a conflict
+     */
+    @Test
+    void testOtherIllegalStateIsServerError() throws Exception {
+        when(suburbPostcodeLookupLoader.reloadFromDatabase())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Connection pool is closed")));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/dataset/reload").header(DatasetReloadController.ADMIN_TOKEN_HEADER, "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isInternalServerError());
+    }
+
+    /**
+     * Description : Test a reload without the admin token is refused before anything is loaded
+     */
+    @Test
+    void testReloadWithoutTokenIsUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/v1/dataset/reload"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/dataset/reload").header(DatasetReloadController.ADMIN_TOKEN_HEADER, "guess"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(suburbPostcodeLookupLoader);
+    }
+}
@@ -0,0 +1,117 @@
+package com.freightmate.controller;
+
+import com.freightmate.dto.SuburbNameInfo;
+import com.freightmate.exception.ResourceNotFoundException;
+import com.freightmate.resilience.StaleResultMarker;
+import com.freightmate.service.LookupResult;
+import com.freightmate.service.SuburbPostcodeServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeAsyncControllerTest Controller Test Class
+ */
+@WebMvcTest(controllers = SuburbPostcodeAsyncController.class, properties = "freightmate.async.lookup-timeout-ms=250")
+class SuburbPostcodeAsyncControllerTest {
+
+    @MockBean
+    private SuburbPostcodeServiceImpl suburbPostcodeService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Description : Test suburbs are returned in the same shape as the blocking endpoint
+     */
+    @Test
+    void testGetSuburbsByPostcode() throws Exception {
+        when(suburbPostcodeService.findSuburbsByPostcode(3000)).thenReturn(CompletableFuture.completedFuture(
+                LookupResult.fresh(List.of(new SuburbNameInfo("Suburb1"), new SuburbNameInfo("Suburb2")))));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/async/suburbs/{postcode}", 3000))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].suburbName").value("Suburb1"))
+                .andExpect(header().doesNotExist(StaleResultMarker.STALE_HEADER));
+    }
+
+    /**
+     * Description : Test a stale postcode list is marked as stale
+     */
+    @Test
+    void testGetPostcodesBySuburb_Stale() throws Exception {
+        CompletableFuture<LookupResult<List<Integer>>> pending = new CompletableFuture<>();
+        when(suburbPostcodeService.findPostcodesBySuburb("DABEE, NSW")).thenReturn(pending);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/async/postcodes").param("suburbName", "DABEE, NSW"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        pending.complete(LookupResult.stale(List.of(2849)));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(2849))
+                .andExpect(header().string(StaleResultMarker.STALE_HEADER, "true"))
+                .andExpect(header().string("Cache-Control", "no-store"));
+    }
+
+    /**
+     * Description : Test a postcode without suburbs is reported as not found
+     */
+    @Test
+    void testGetSuburbsByPostcode_NotFound() throws Exception {
+        when(suburbPostcodeService.findSuburbsByPostcode(3000)).thenReturn(CompletableFuture.failedFuture(
+                new ResourceNotFoundException("No suburbs found for postcode 3000.")));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/async/suburbs/{postcode}", 3000))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Description : Test a lookup still waiting when the lookup timeout passes is answered with a 503
+     */
+    @Test
+    void testGetSuburbsByPostcode_TimedOut() throws Exception {
+        when(suburbPostcodeService.findSuburbsByPostcode(3000)).thenReturn(new CompletableFuture<>());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/async/suburbs/{postcode}", 3000))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        assertEquals(250, asyncContext.getTimeout());
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+}
@@ -5,9 +5,13 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.freightmate.dto.SuburbNameInfo;
 import com.freightmate.dto.SuburbPostcodeInfo;
+import com.freightmate.resilience.StaleResultMarker;
 import com.freightmate.service.SuburbPostcodeServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +23,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -57,6 +66,51 @@ void testGetSuburbsByPostcode_ValidPostcodeWithExistingSuburbs() throws Exceptio
             .andExpect(jsonPath("$.size()").value(expectedSuburbs.size()));
 }
 
+    /**
+     * Description : Stale results are flagged and kept out of caches
+     */
+    @Test
+    void testGetSuburbsByPostcode_StaleResult() throws Exception {
+        when(suburbPostcodeService.getSuburbsByPostcode(3000)).thenAnswer(invocation -> {
+            StaleResultMarker.markStale();
+            return List.of(new SuburbNameInfo("Suburb1"));
+        });
+
+        mockMvc.perform(get("/api/v1/suburbs/{postcode}", 3000))
+                .andExpect(status().isOk())
+                .andExpect(header().string(StaleResultMarker.STALE_HEADER, "true"))
+                .andExpect(header().string("Cache-Control", "no-store"));
+    }
+
+    /**
+     * Description : Suburbs are encoded as CBOR or Smile when asked for, in fewer bytes than JSON
+     */
+    @Test
+    void testGetSuburbsByPostcode_BinaryEncodings() throws Exception {
+        List<SuburbNameInfo> expectedSuburbs = IntStream.range(0, 50)
+                .mapToObj(i -> new SuburbNameInfo("SUBURB " + i + ", NSW"))
+                .collect(Collectors.toList());
+        when(suburbPostcodeService.getSuburbsByPostcode(2000)).thenReturn(expectedSuburbs);
+
+        byte[] json = mockMvc.perform(get("/api/v1/suburbs/{postcode}", 2000))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/api/v1/suburbs/{postcode}", 2000).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/api/v1/suburbs/{postcode}", 2000).accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        TypeReference<List<SuburbNameInfo>> type = new TypeReference<>() { };
+        assertEquals(expectedSuburbs, new CBORMapper().readValue(cbor, type));
+        assertEquals(expectedSuburbs, new SmileMapper().readValue(smile, type));
+        assertTrue(cbor.length < json.length);
+        assertTrue(smile.length < json.length);
+    }
+
     /**
      * Description : Valid suburb with existing postcode
      */
@@ -0,0 +1,167 @@
+package com.freightmate.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ReadWriteRoutingDataSourceTest Test Class routing between two embedded databases, the replica
+ *    lagging one row behind the primary.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM suburb_postcode";
+
+    private final ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(60_000);
+    private ReplicaPool replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primary = database("primary", "('DABEE, NSW', 2849), ('NORTH SYDNEY, NSW', 2060)");
+        JdbcDataSource replica = database("replica", "('DABEE, NSW', 2849)");
+        replicaPool = new ReplicaPool(List.of(new ReplicaPool.Replica("replica-0", replica)), ReplicaPool.Selection.ROUND_ROBIN);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaPool, readYourWritesTracker));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWritesTracker.clearClient();
+    }
+
+    private static JdbcDataSource database(String name, String rows) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE suburb_postcode (postcode INT NOT NULL, suburb_name VARCHAR(255) NOT NULL, "
+                + "PRIMARY KEY (postcode, suburb_name))");
+        jdbc.execute("INSERT INTO suburb_postcode (suburb_name, postcode) VALUES " + rows);
+        return dataSource;
+    }
+
+    private int count(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Integer.class));
+    }
+
+    /**
+     * Description : Test read-only transactions are answered by the replica and others by the primary.
+     */
+    @Test
+    void testReadOnlyTransactionsUseReplica() {
+        assertEquals(1, count(readOnly));
+        assertEquals(2, count(readWrite));
+    }
+
+    /**
+     * Description : Test a client that just wrote reads from the primary while other clients use the replica.
+     */
+    @Test
+    void testReadYourWrites() {
+        readYourWritesTracker.bindClient("writer");
+        readWrite.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO suburb_postcode (suburb_name, postcode) VALUES ('LAVENDER BAY, NSW', 2060)"));
+        readYourWritesTracker.recordWrite();
+
+        assertEquals(3, count(readOnly));
+
+        readYourWritesTracker.bindClient("someone-else");
+        assertEquals(1, count(readOnly));
+    }
+
+    /**
+     * Description : Test reads fall back to the primary while no replica is healthy.
+     */
+    @Test
+    void testUnhealthyReplicaFallsBackToPrimary() {
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        replicaPool = new ReplicaPool(List.of(new ReplicaPool.Replica("replica-1", missing)), ReplicaPool.Selection.LEAST_LATENCY);
+        replicaPool.checkHealth();
+        assertFalse(replicaPool.getReplicas().get(0).isHealthy());
+        assertNull(replicaPool.select());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                database("primary", "('DABEE, NSW', 2849), ('NORTH SYDNEY, NSW', 2060)"), replicaPool, readYourWritesTracker));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        assertEquals(2, count(readOnly));
+    }
+
+    /**
+     * Description : Test a replica that fails to hand out a connection is taken out of rotation.
+     */
+    @Test
+    void testFailingReplicaIsMarkedUnhealthy() {
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ReplicaPool pool = new ReplicaPool(List.of(new ReplicaPool.Replica("replica-1", missing)), ReplicaPool.Selection.ROUND_ROBIN);
+        JdbcDataSource primary = database("primary", "('DABEE, NSW', 2849)");
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, pool, readYourWritesTracker));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        assertEquals(1, count(readOnly));
+        assertFalse(pool.getReplicas().get(0).isHealthy());
+    }
+
+    /**
+     * Description : Test clients behind a gateway are told apart by the forwarded address, an explicit client id
+     *    taking precedence.
+     */
+    @Test
+    void testClientIdentity() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        assertEquals("10.0.0.1", ReadYourWritesFilter.clientIdOf(request));
+
+        request.addHeader(ReadYourWritesFilter.FORWARDED_FOR_HEADER, "203.0.113.7, 10.0.0.1");
+        assertEquals("203.0.113.7", ReadYourWritesFilter.clientIdOf(request));
+
+        request.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, "warehouse-service");
+        assertEquals("warehouse-service", ReadYourWritesFilter.clientIdOf(request));
+    }
+
+    /**
+     * Description : Test writer threads take their connections from the write connection pool, other threads from
+     *    the routing data source.
+     */
+    @Test
+    void testWriterThreadsUseWriteConnectionPool() {
+        JdbcDataSource primary = database("primary", "('DABEE, NSW', 2849)");
+        WriteConnectionPool writeConnectionPool = new WriteConnectionPool(
+                database("write", "('DABEE, NSW', 2849), ('NORTH SYDNEY, NSW', 2060), ('LAVENDER BAY, NSW', 2060)"));
+        jdbcTemplate = new JdbcTemplate(new WriteRoutingDataSource(primary, writeConnectionPool));
+        int[] writerCount = new int[1];
+
+        writeConnectionPool.asWriter(() -> writerCount[0] = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class)).run();
+
+        assertEquals(3, writerCount[0]);
+        assertEquals(1, jdbcTemplate.queryForObject(COUNT_SQL, Integer.class));
+        assertFalse(writeConnectionPool.isWriterThread());
+    }
+}
@@ -0,0 +1,147 @@
+package com.freightmate.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote LoadTestResult the outcome of one load test run. It is written as a readable report with the full
+ *    latency distribution of each operation, and appended as one line per operation to summary.csv, which keeps
+ *    every run in the output directory for comparison. Next to the latency, each operation reports its mean
+ *    response size and, when the server measured it, the mean CPU time of the request thread.
+ */
+class LoadTestResult {
+
+    private static final String SUMMARY_HEADER = "run,operation,target_rate,requests,throughput,errors,"
+            + "p50_ms,p90_ms,p99_ms,p999_ms,max_ms,bytes_per_request,server_cpu_us_per_request";
+
+    private final double targetRate;
+    private final Duration duration;
+    private final Duration elapsed;
+    private final Map<String, OpenModelLoadGenerator.OperationStats> operations;
+    private final long dropped;
+    private final int unfinished;
+    private final Map<String, Long> serverCpuNanos = new TreeMap<>();
+
+    LoadTestResult(double targetRate, Duration duration, Duration elapsed,
+                   Map<String, OpenModelLoadGenerator.OperationStats> operations, long dropped, int unfinished) {
+        this.targetRate = targetRate;
+        this.duration = duration;
+        this.elapsed = elapsed;
+        this.operations = operations;
+        this.dropped = dropped;
+        this.unfinished = unfinished;
+    }
+
+    Map<String, OpenModelLoadGenerator.OperationStats> getOperations() {
+        return operations;
+    }
+
+    long getDropped() {
+        return dropped;
+    }
+
+    int getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * @param cpuNanos: passing the CPU time the server spent on each operation
+     * Description : To add the server side CPU time of each operation to the report.
+     */
+    void addServerCpuNanos(Map<String, Long> cpuNanos) {
+        serverCpuNanos.putAll(cpuNanos);
+    }
+
+    long getRequests() {
+        return operations.values().stream().mapToLong(stats -> stats.getLatencyMicros().getTotalCount()).sum();
+    }
+
+    /**
+     * Description : Requests answered with a 5xx status or not answered at all.
+     */
+    long getErrors() {
+        return operations.values().stream().mapToLong(LoadTestResult::errors).sum();
+    }
+
+    /**
+     * @param directory: passing directory parameter
+     * @param description: passing description parameter, the settings of the run
+     * Description : To write the report of this run and append it to summary.csv, returns the report file.
+     */
+    Path write(Path directory, String description) throws IOException {
+        Files.createDirectories(directory);
+        String run = Instant.now().toString().replace(":", "");
+        Path report = directory.resolve("loadtest-" + run + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            out.printf("%s%ntarget rate %.0f/s for %ds, %d requests answered in %.1fs, %.1f/s, %d errors, "
+                            + "%d dropped by the client, %d unfinished%n", description, targetRate, duration.toSeconds(),
+                    getRequests(), seconds(), getRequests() / seconds(), getErrors(), dropped, unfinished);
+            operations.forEach((operation, stats) -> {
+                Histogram latency = stats.getLatencyMicros();
+                out.printf("%n== %s: %d requests, %.1f/s, statuses %s%n", operation, latency.getTotalCount(),
+                        latency.getTotalCount() / seconds(), stats.getStatuses());
+                out.printf("p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+                        millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                        latency.getMaxValue() / 1000.0);
+                out.printf("%.1f bytes per response, %s server CPU per request%n%n", bytesPerRequest(stats),
+                        serverCpuNanos.containsKey(operation) ? String.format("%.1f us", cpuMicrosPerRequest(operation, stats)) : "no");
+                latency.outputPercentileDistribution(out, 1000.0);
+            });
+        }
+
+        Path summary = directory.resolve("summary.csv");
+        StringBuilder lines = new StringBuilder();
+        if (Files.notExists(summary)) {
+            lines.append(SUMMARY_HEADER).append('\n');
+        }
+        operations.forEach((operation, stats) -> {
+            Histogram latency = stats.getLatencyMicros();
+            lines.append(String.join(",", List.of(run, operation, String.format("%.0f", targetRate),
+                    String.valueOf(latency.getTotalCount()),
+                    String.format("%.1f", latency.getTotalCount() / seconds()),
+                    String.valueOf(errors(stats)),
+                    String.format("%.3f", millis(latency, 50)), String.format("%.3f", millis(latency, 90)),
+                    String.format("%.3f", millis(latency, 99)), String.format("%.3f", millis(latency, 99.9)),
+                    String.format("%.3f", latency.getMaxValue() / 1000.0),
+                    String.format("%.1f", bytesPerRequest(stats)),
+                    serverCpuNanos.containsKey(operation) ? String.format("%.1f", cpuMicrosPerRequest(operation, stats)) : ""))).append('\n');
+        });
+        Files.writeString(summary, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return report;
+    }
+
+    private double seconds() {
+        return elapsed.toNanos() / 1e9;
+    }
+
+    private double cpuMicrosPerRequest(String operation, OpenModelLoadGenerator.OperationStats stats) {
+        return serverCpuNanos.get(operation) / 1000.0 / Math.max(1, stats.getLatencyMicros().getTotalCount());
+    }
+
+    private static double bytesPerRequest(OpenModelLoadGenerator.OperationStats stats) {
+        return (double) stats.getResponseBytes() / Math.max(1, stats.getLatencyMicros().getTotalCount());
+    }
+
+    private static long errors(OpenModelLoadGenerator.OperationStats stats) {
+        return stats.getStatuses().entrySet().stream()
+                .filter(status -> status.getKey() < 0 || status.getKey() >= 500)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.freightmate.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote OpenModelLoadGenerator sends requests at a fixed arrival rate whether or not earlier requests have
+ *    been answered, the way independent clients do. Latency is measured from the moment a request was due to be
+ *    sent, so a server that falls behind shows up in the percentiles instead of quietly lowering the rate.
+ *    Requests due during the warm-up period are sent but not recorded. Recorded requests carry their operation
+ *    name in the X-Load-Test-Operation header, so the server side can attribute its own measurements to it.
+ */
+class OpenModelLoadGenerator {
+
+    static final String OPERATION_HEADER = "X-Load-Test-Operation";
+
+    private final HttpClient httpClient;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong lastResponse = new AtomicLong();
+
+    OpenModelLoadGenerator(HttpClient httpClient, double ratePerSecond, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @implNote LoadRequest one request of the workload, grouped in the report by its operation name.
+     */
+    record LoadRequest(String operation, HttpRequest request) {
+    }
+
+    /**
+     * @param warmup: passing warmup parameter, time at the start of the run that is not recorded
+     * @param duration: passing duration parameter, recorded time after the warm-up
+     * @param workload: passing workload parameter, called once per arrival for the next request
+     * Description : To run the load and wait for the requests still in flight.
+     */
+    LoadTestResult run(Duration warmup, Duration duration, Supplier<LoadRequest> workload) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        for (long arrival = 0; ; arrival++) {
+            long intended = start + arrival * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(workload.get(), intended, intended >= recordFrom);
+        }
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        // Throughput counts the time until the last recorded response, a server that fell behind answers after the end
+        Duration elapsed = Duration.ofNanos(Math.max(end, lastResponse.get()) - recordFrom);
+        return new LoadTestResult(ratePerSecond, duration, elapsed, new TreeMap<>(operations), dropped.get(), inFlight.get());
+    }
+
+    private void send(LoadRequest loadRequest, long intended, boolean recorded) {
+        OperationStats stats = recorded ? operations.computeIfAbsent(loadRequest.operation(), name -> new OperationStats()) : null;
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            if (recorded) {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+        HttpRequest request = recorded
+                ? HttpRequest.newBuilder(loadRequest.request(), (name, value) -> true)
+                        .header(OPERATION_HEADER, loadRequest.operation()).build()
+                : loadRequest.request();
+        httpClient.sendAsync(request, responseInfo -> new CountingBodySubscriber())
+                .whenComplete((response, e) -> {
+                    inFlight.decrementAndGet();
+                    if (stats != null) {
+                        long now = System.nanoTime();
+                        stats.record(response == null ? -1 : response.statusCode(), now - intended,
+                                response == null ? 0 : response.body());
+                        lastResponse.accumulateAndGet(now, Math::max);
+                    }
+                });
+    }
+
+    /**
+     * @implNote CountingBodySubscriber discards the response body, completing with its size in bytes.
+     */
+    private static final class CountingBodySubscriber implements HttpResponse.BodySubscriber<Long> {
+
+        private final CompletableFuture<Long> size = new CompletableFuture<>();
+        private long bytes;
+
+        @Override
+        public CompletionStage<Long> getBody() {
+            return size;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                bytes += buffer.remaining();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            size.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            size.complete(bytes);
+        }
+    }
+
+    /**
+     * @implNote OperationStats latency histogram, in microseconds, status code counts and response bytes of one
+     *    operation. A status of -1 counts requests that failed without a response.
+     */
+    static final class OperationStats {
+
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder responseBytes = new LongAdder();
+
+        void record(int status, long latencyNanos, long bodyBytes) {
+            latencyMicros.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+            responseBytes.add(bodyBytes);
+        }
+
+        Histogram getLatencyMicros() {
+            return latencyMicros;
+        }
+
+        long getResponseBytes() {
+            return responseBytes.sum();
+        }
+
+        Map<Integer, Long> getStatuses() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return counts;
+        }
+    }
+}
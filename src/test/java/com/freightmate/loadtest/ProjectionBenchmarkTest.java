@@ -0,0 +1,168 @@
+package com.freightmate.loadtest;
+
+import com.freightmate.dto.SuburbNameInfo;
+import com.freightmate.entity.SuburbPostcodeEntity;
+import com.freightmate.repository.SuburbPostcodeRepository;
+import com.sun.management.ThreadMXBean;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ProjectionBenchmarkTest compares the suburb lookup selecting straight into SuburbNameInfo with loading
+ *    SuburbPostcodeEntity objects and copying their names, as the lookup did before. Both run in read-only
+ *    transactions on the calling thread against the synthetic dataset of the load test, with the query cache off
+ *    so every call reaches the database. Reports the latency distribution and the bytes allocated per call.
+ *    Excluded from the normal build, it runs with mvn test -Ploadtest.
+ */
+@Tag("loadtest")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:projection-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "freightmate.lookup.preload-on-startup=false",
+        "freightmate.warmup.enabled=false",
+        "freightmate.access-log.file=target/loadtest/access.jsonl",
+        "freightmate.tracing.file=target/loadtest/traces.jsonl"
+})
+class ProjectionBenchmarkTest {
+
+    private final Logger logger = LoggerFactory.getLogger(ProjectionBenchmarkTest.class);
+
+    @Autowired
+    private SuburbPostcodeRepository suburbPostcodeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${freightmate.loadtest.rows:18000}")
+    private int rows;
+
+    @Value("${freightmate.loadtest.seed:42}")
+    private long seed;
+
+    @Value("${freightmate.loadtest.benchmark-iterations:20000}")
+    private int iterations;
+
+    @Value("${freightmate.loadtest.benchmark-warmup-iterations:5000}")
+    private int warmupIterations;
+
+    @Value("${freightmate.loadtest.output-dir:target/loadtest}")
+    private String outputDir;
+
+    /**
+     * @implNote Measurement latency histogram, in microseconds, and heap allocated by one variant of the lookup.
+     */
+    private record Measurement(String name, Histogram latencyMicros, long allocatedBytes) {
+
+        double bytesPerCall() {
+            return (double) allocatedBytes / latencyMicros.getTotalCount();
+        }
+    }
+
+    /**
+     * Description : Test the projection allocates less per lookup than loading entities, and write the latency and
+     *    allocation of both to the output directory.
+     */
+    @Test
+    void testProjectionAgainstEntityLoading() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        List<Integer> postcodes = SuburbPostcodeLoadTest.SyntheticDataset.seed(jdbcTemplate, rows, seed).getPostcodes();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        IntFunction<List<SuburbNameInfo>> entities = postcode -> readOnly.execute(status -> entityManager
+                .createQuery("SELECT s FROM SuburbPostcodeEntity s WHERE s.id.postcode = :postcode", SuburbPostcodeEntity.class)
+                .setParameter("postcode", postcode)
+                .getResultStream()
+                .map(SuburbNameInfo::convertEntityToDTOSuburbNameInfo)
+                .toList());
+        IntFunction<List<SuburbNameInfo>> projection = suburbPostcodeRepository::findSuburbNamesByPostcode;
+
+        int postcode = postcodes.get(0);
+        Comparator<SuburbNameInfo> byName = Comparator.comparing(SuburbNameInfo::getSuburbName);
+        assertEquals(entities.apply(postcode).stream().sorted(byName).toList(),
+                projection.apply(postcode).stream().sorted(byName).toList());
+
+        Measurement entityMeasurement = measure("entity", entities, postcodes);
+        Measurement projectionMeasurement = measure("projection", projection, postcodes);
+
+        Path report = write(List.of(entityMeasurement, projectionMeasurement));
+        logger.info("Projection benchmark report written to {}", report.toAbsolutePath());
+        assertTrue(projectionMeasurement.bytesPerCall() < entityMeasurement.bytesPerCall());
+    }
+
+    private Measurement measure(String name, IntFunction<List<SuburbNameInfo>> lookup, List<Integer> postcodes) {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Random random = new Random(seed);
+        for (int i = 0; i < warmupIterations; i++) {
+            lookup.apply(postcodes.get(random.nextInt(postcodes.size())));
+        }
+        Histogram latencyMicros = new Histogram(3);
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            int postcode = postcodes.get(random.nextInt(postcodes.size()));
+            long start = System.nanoTime();
+            lookup.apply(postcode);
+            latencyMicros.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+        }
+        // Recording into the histogram hardly allocates, so the difference is the allocation of the lookups
+        return new Measurement(name, latencyMicros, threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+    }
+
+    private Path write(List<Measurement> measurements) throws IOException {
+        Path directory = Path.of(outputDir);
+        Files.createDirectories(directory);
+        Path report = directory.resolve("projection-benchmark-" + Instant.now().toString().replace(":", "") + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            out.printf("%d synthetic rows, %d warm-up and %d measured lookups per variant%n", rows, warmupIterations, iterations);
+            for (Measurement measurement : measurements) {
+                Histogram latency = measurement.latencyMicros();
+                out.printf("%n== %s: %.0f bytes allocated per lookup%n", measurement.name(), measurement.bytesPerCall());
+                out.printf("p50 %d us, p90 %d us, p99 %d us, p99.9 %d us, max %d us%n%n",
+                        latency.getValueAtPercentile(50), latency.getValueAtPercentile(90),
+                        latency.getValueAtPercentile(99), latency.getValueAtPercentile(99.9), latency.getMaxValue());
+                latency.outputPercentileDistribution(out, 1.0);
+            }
+        }
+        return report;
+    }
+}
@@ -0,0 +1,50 @@
+package com.freightmate.loadtest;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote ServerCpuTimeFilter adds up the CPU time the request thread spends on each load test operation, named
+ *    by the X-Load-Test-Operation header. That covers the filters, argument binding, the in-memory lookup and
+ *    writing the response in the negotiated format; database work done in a bulkhead is not included.
+ */
+class ServerCpuTimeFilter extends OncePerRequestFilter {
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Map<String, LongAdder> cpuNanos = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String operation = request.getHeader(OpenModelLoadGenerator.OPERATION_HEADER);
+        if (operation == null || !threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            cpuNanos.computeIfAbsent(operation, name -> new LongAdder())
+                    .add(threadMXBean.getCurrentThreadCpuTime() - start);
+        }
+    }
+
+    Map<String, Long> getCpuNanos() {
+        Map<String, Long> totals = new TreeMap<>();
+        cpuNanos.forEach((operation, nanos) -> totals.put(operation, nanos.sum()));
+        return totals;
+    }
+}
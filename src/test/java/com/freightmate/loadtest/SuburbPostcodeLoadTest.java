@@ -0,0 +1,274 @@
+package com.freightmate.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeLoadTest Load test of the lookup and insert APIs. The application runs against an
+ *    in-memory H2 database seeded with a national-size synthetic dataset, generated from a fixed seed so runs are
+ *    comparable. Excluded from the normal build, run it with mvn test -Ploadtest and tune it with the
+ *    freightmate.loadtest.* system properties. Reports are written to freightmate.loadtest.output-dir.
+ *    Lookups are spread over the response formats listed in freightmate.loadtest.formats, each format reported as
+ *    an operation of its own with its response size and server CPU time.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "freightmate.warmup.max-duration-ms=10000",
+        "freightmate.access-log.file=target/loadtest/access.jsonl",
+        "freightmate.tracing.file=target/loadtest/traces.jsonl"
+})
+class SuburbPostcodeLoadTest {
+
+    private static final String[] PREFIXES = {"NORTH ", "SOUTH ", "EAST ", "WEST ", "MOUNT ", "PORT ", "UPPER ", "LOWER "};
+    private static final String[] SYLLABLES = {"BAL", "BER", "CAR", "DAL", "GLEN", "KIN", "MOR", "WAR", "WIL", "YAR",
+            "TOO", "NAR", "MUR", "COO", "BUN", "ROSE", "OAK", "ASH", "MAR", "BOL", "TAL", "WON", "GUN", "KUR"};
+    private static final String[] SUFFIXES = {"LA", "RA", "DALE", "VALE", "WOOD", "FORD", "TON", "BURY", "GONG", "BAH",
+            "ONG", "ERY", "INA", "OOMBA", "BROOK", "FIELD"};
+
+    /**
+     * State, lowest and highest postcode, share of the localities.
+     */
+    private static final Object[][] STATES = {
+            {"NSW", 2000, 2999, 0.30}, {"VIC", 3000, 3999, 0.25}, {"QLD", 4000, 4999, 0.22}, {"SA", 5000, 5799, 0.08},
+            {"WA", 6000, 6797, 0.09}, {"TAS", 7000, 7470, 0.04}, {"NT", 800, 899, 0.01}, {"ACT", 2600, 2618, 0.01}};
+
+    private static final Map<String, String> FORMATS = Map.of("json", "application/json", "cbor", "application/cbor",
+            "smile", "application/x-jackson-smile");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SyntheticDataset syntheticDataset;
+
+    @Autowired
+    private FilterRegistrationBean<ServerCpuTimeFilter> serverCpuTimeFilter;
+
+    private final Logger logger = LoggerFactory.getLogger(SuburbPostcodeLoadTest.class);
+
+    @Value("${freightmate.loadtest.rate:500}")
+    private double rate;
+
+    @Value("${freightmate.loadtest.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${freightmate.loadtest.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    @Value("${freightmate.loadtest.hit-ratio:0.9}")
+    private double hitRatio;
+
+    @Value("${freightmate.loadtest.write-ratio:0.02}")
+    private double writeRatio;
+
+    @Value("${freightmate.loadtest.formats:json}")
+    private List<String> formats;
+
+    @Value("${freightmate.loadtest.max-in-flight:10000}")
+    private int maxInFlight;
+
+    @Value("${freightmate.loadtest.output-dir:target/loadtest}")
+    private String outputDir;
+
+    /**
+     * @implNote SyntheticDataset seeds the suburb_postcode table once Hibernate has created it and before the
+     *    application warms up, so the in-memory lookup is built from the full dataset.
+     */
+    @TestConfiguration
+    static class SyntheticDatasetConfiguration {
+
+        @Bean
+        SyntheticDataset syntheticDataset(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                                          @Value("${freightmate.loadtest.rows:18000}") int rows,
+                                          @Value("${freightmate.loadtest.seed:42}") long seed) {
+            return SyntheticDataset.seed(jdbcTemplate, rows, seed);
+        }
+
+        @Bean
+        FilterRegistrationBean<ServerCpuTimeFilter> serverCpuTimeFilter() {
+            FilterRegistrationBean<ServerCpuTimeFilter> registration = new FilterRegistrationBean<>(new ServerCpuTimeFilter());
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    /**
+     * @implNote SyntheticDataset suburb and postcode combinations spread over the states' postcode ranges, and
+     *    postcodes of those ranges that have no suburb to use for misses.
+     */
+    static final class SyntheticDataset {
+
+        private final Set<String> rows = new LinkedHashSet<>();
+        private final List<String> suburbNames = new ArrayList<>();
+        private final List<Integer> postcodes = new ArrayList<>();
+        private final List<Integer> unusedPostcodes = new ArrayList<>();
+
+        /**
+         * @param jdbcTemplate: passing jdbcTemplate parameter
+         * @param size: passing the number of combinations
+         * @param seed: passing the seed the combinations are generated from
+         * Description : To generate a dataset and insert it into the suburb_postcode table.
+         */
+        static SyntheticDataset seed(JdbcTemplate jdbcTemplate, int size, long seed) {
+            SyntheticDataset dataset = generate(size, new Random(seed));
+            List<Object[]> batch = new ArrayList<>(dataset.rows.size());
+            for (int i = 0; i < dataset.rows.size(); i++) {
+                batch.add(new Object[]{dataset.suburbNames.get(i), dataset.postcodes.get(i)});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO suburb_postcode (suburb_name, postcode) VALUES (?, ?)", batch);
+            return dataset;
+        }
+
+        List<Integer> getPostcodes() {
+            return postcodes;
+        }
+
+        static SyntheticDataset generate(int size, Random random) {
+            SyntheticDataset dataset = new SyntheticDataset();
+            while (dataset.rows.size() < size) {
+                Object[] state = pickState(random);
+                int postcode = (int) state[1] + random.nextInt((int) state[2] - (int) state[1] + 1);
+                String suburbName = suburbName(random) + ", " + state[0];
+                if (dataset.rows.add(suburbName + "|" + postcode)) {
+                    dataset.suburbNames.add(suburbName);
+                    dataset.postcodes.add(postcode);
+                }
+            }
+            Set<Integer> used = Set.copyOf(dataset.postcodes);
+            for (int postcode = 200; postcode <= 9999; postcode++) {
+                if (!used.contains(postcode)) {
+                    dataset.unusedPostcodes.add(postcode);
+                }
+            }
+            return dataset;
+        }
+
+        private static Object[] pickState(Random random) {
+            double pick = random.nextDouble();
+            for (Object[] state : STATES) {
+                pick -= (double) state[3];
+                if (pick < 0) {
+                    return state;
+                }
+            }
+            return STATES[0];
+        }
+
+        private static String suburbName(Random random) {
+            StringBuilder name = new StringBuilder();
+            if (random.nextInt(8) == 0) {
+                name.append(PREFIXES[random.nextInt(PREFIXES.length)]);
+            }
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            if (random.nextBoolean()) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            return name.append(SUFFIXES[random.nextInt(SUFFIXES.length)]).toString();
+        }
+    }
+
+    /**
+     * Description : Test the APIs under an open-model arrival rate with a mix of hits, misses and inserts, and write
+     *    the throughput and latency percentiles of each operation to the output directory.
+     */
+    @Test
+    void testMixedWorkload() throws Exception {
+        for (String format : formats) {
+            assertTrue(FORMATS.containsKey(format), "Unknown response format " + format);
+        }
+        String baseUrl = "http://localhost:" + port + "/api/v1";
+        Random random = new Random(7);
+        int[] written = new int[1];
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(httpClient, rate, maxInFlight);
+        LoadTestResult result;
+        try {
+            result = generator.run(Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds), () -> {
+                double pick = random.nextDouble();
+                if (pick < writeRatio) {
+                    int postcode = syntheticDataset.postcodes.get(random.nextInt(syntheticDataset.postcodes.size()));
+                    String body = String.format("{\"suburbName\":\"LOADTEST %d, VIC\",\"postcode\":%d}", ++written[0], postcode);
+                    return new OpenModelLoadGenerator.LoadRequest("POST /suburbs", request(baseUrl + "/suburbs", "json")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build());
+                }
+                boolean hit = random.nextDouble() < hitRatio;
+                String format = formats.get(random.nextInt(formats.size()));
+                if (random.nextBoolean()) {
+                    int postcode = hit ? syntheticDataset.postcodes.get(random.nextInt(syntheticDataset.postcodes.size()))
+                            : syntheticDataset.unusedPostcodes.get(random.nextInt(syntheticDataset.unusedPostcodes.size()));
+                    return new OpenModelLoadGenerator.LoadRequest((hit ? "GET /suburbs hit " : "GET /suburbs miss ") + format,
+                            request(baseUrl + "/suburbs/" + postcode, format).GET().build());
+                }
+                String suburbName = hit ? syntheticDataset.suburbNames.get(random.nextInt(syntheticDataset.suburbNames.size()))
+                        : "NOWHERE " + random.nextInt(1_000_000) + ", QLD";
+                return new OpenModelLoadGenerator.LoadRequest((hit ? "GET /postcodes hit " : "GET /postcodes miss ") + format,
+                        request(baseUrl + "/postcodes?suburbName=" + URLEncoder.encode(suburbName, StandardCharsets.UTF_8), format)
+                                .GET().build());
+            });
+        } finally {
+            executor.shutdown();
+        }
+        result.addServerCpuNanos(serverCpuTimeFilter.getFilter().getCpuNanos());
+
+        Path report = result.write(Path.of(outputDir), String.format(
+                "%d synthetic rows, hit ratio %.2f, write ratio %.2f, formats %s, %d s warm-up, %d cores",
+                syntheticDataset.rows.size(), hitRatio, writeRatio, formats, warmupSeconds, Runtime.getRuntime().availableProcessors()));
+        logger.info("Load test report written to {}", report.toAbsolutePath());
+
+        assertTrue(Files.exists(report));
+        assertTrue(result.getRequests() > 0);
+        assertEquals(0, result.getUnfinished());
+    }
+
+    private static HttpRequest.Builder request(String url, String format) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", FORMATS.get(format))
+                .timeout(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,114 @@
+package com.freightmate.lookup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeIndexTest Test Class for the in-memory index and name dictionary
+ */
+class SuburbPostcodeIndexTest {
+
+    private final SuburbPostcodeIndex index = SuburbPostcodeIndex.builder()
+            .add("NORTH SYDNEY, NSW", 2060)
+            .add("NORTH SYDNEY, NSW", 2059)
+            .add("LAVENDER BAY, NSW", 2060)
+            .add("RICHMOND, VIC", 3121)
+            .add("RICHMOND, NSW", 2753)
+            .add("Suburb1", 3000)
+            .add("NORTH SYDNEY, NSW", 2060)
+            .build();
+
+    /**
+     * Description : Test suburbs of a postcode are returned in name order.
+     */
+    @Test
+    void testSuburbsForPostcode() {
+        assertEquals(List.of("LAVENDER BAY, NSW", "NORTH SYDNEY, NSW"), index.suburbsForPostcode(2060));
+        assertEquals(List.of("Suburb1"), index.suburbsForPostcode(3000));
+        assertTrue(index.suburbsForPostcode(4000).isEmpty());
+        assertTrue(index.suburbsForPostcode(-1).isEmpty());
+        assertTrue(index.suburbsForPostcode(10000).isEmpty());
+    }
+
+    /**
+     * Description : Test postcodes of a suburb are returned in ascending order.
+     */
+    @Test
+    void testPostcodesForSuburb() {
+        assertArrayEquals(new int[]{2059, 2060}, index.postcodesForSuburb("NORTH SYDNEY, NSW"));
+        assertArrayEquals(new int[]{3121}, index.postcodesForSuburb("RICHMOND, VIC"));
+        assertArrayEquals(new int[]{2753}, index.postcodesForSuburb("RICHMOND, NSW"));
+        assertEquals(0, index.postcodesForSuburb("RICHMOND, QLD").length);
+        assertEquals(0, index.postcodesForSuburb("RICHMOND").length);
+        assertEquals(0, index.postcodesForSuburb(null).length);
+    }
+
+    /**
+     * Description : Test duplicate rows are stored once.
+     */
+    @Test
+    void testDuplicatesAreIgnored() {
+        assertEquals(6, index.size());
+        assertEquals(5, index.suburbCount());
+        assertTrue(index.contains("NORTH SYDNEY, NSW", 2059));
+        assertFalse(index.contains("NORTH SYDNEY, NSW", 2061));
+    }
+
+    /**
+     * Description : Test every row round-trips through the dictionary.
+     */
+    @Test
+    void testForEachWalksAllRows() {
+        List<String> rows = new ArrayList<>();
+        index.forEach((suburbName, postcode) -> rows.add(postcode + " " + suburbName));
+        assertEquals(List.of("2059 NORTH SYDNEY, NSW", "2060 LAVENDER BAY, NSW", "2060 NORTH SYDNEY, NSW",
+                "2753 RICHMOND, NSW", "3000 Suburb1", "3121 RICHMOND, VIC"), rows);
+    }
+
+    /**
+     * Description : Test the empty index answers every lookup with no rows.
+     */
+    @Test
+    void testEmptyIndex() {
+        SuburbPostcodeIndex empty = SuburbPostcodeIndex.empty();
+        assertEquals(0, empty.size());
+        assertTrue(empty.suburbsForPostcode(2000).isEmpty());
+        assertEquals(0, empty.postcodesForSuburb("NORTH SYDNEY, NSW").length);
+    }
+
+    /**
+     * Description : Test additions are merged into lookups until an index containing them replaces the overlay.
+     */
+    @Test
+    void testLookupMergesAdditions() {
+        SuburbPostcodeLookup lookup = new SuburbPostcodeLookup();
+        lookup.replace(index);
+        lookup.recordAddition("MILSONS POINT, NSW", 2060);
+
+        assertEquals(List.of("LAVENDER BAY, NSW", "MILSONS POINT, NSW", "NORTH SYDNEY, NSW"), lookup.findSuburbs(2060));
+        assertEquals(List.of(2060), lookup.findPostcodes("MILSONS POINT, NSW"));
+
+        lookup.replace(SuburbPostcodeIndex.builder().add("MILSONS POINT, NSW", 2061).build());
+        assertEquals(List.of(2060, 2061), lookup.findPostcodes("MILSONS POINT, NSW"));
+        lookup.replace(SuburbPostcodeIndex.builder().add("MILSONS POINT, NSW", 2060).build());
+        assertEquals(List.of(2060), lookup.findPostcodes("MILSONS POINT, NSW"));
+    }
+
+    /**
+     * Description : Test additions are not recorded before an index is loaded, so a partial result is never
+     *    answered from memory.
+     */
+    @Test
+    void testLookupIgnoresAdditionsBeforeLoad() {
+        SuburbPostcodeLookup lookup = new SuburbPostcodeLookup();
+        lookup.recordAddition("MILSONS POINT, NSW", 2060);
+
+        assertTrue(lookup.findSuburbs(2060).isEmpty());
+        assertTrue(lookup.findPostcodes("MILSONS POINT, NSW").isEmpty());
+    }
+}
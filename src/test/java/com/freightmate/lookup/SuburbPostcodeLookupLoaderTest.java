@@ -0,0 +1,147 @@
+package com.freightmate.lookup;
+
+import com.freightmate.datasource.BulkConnectionPool;
+import com.freightmate.dto.DatasetReloadReport;
+import com.freightmate.resilience.Bulkhead;
+import com.freightmate.resilience.Bulkheads;
+import com.freightmate.resilience.DatabaseCircuitBreaker;
+import com.freightmate.service.SuburbPostcodeChangeFeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeLookupLoaderTest Test Class for reloading the in-memory dataset
+ */
+class SuburbPostcodeLookupLoaderTest {
+
+    private final BulkConnectionPool bulkConnectionPool = new BulkConnectionPool(
+            new DriverManagerDataSource("jdbc:h2:mem:loader;DB_CLOSE_DELAY=-1", "sa", ""), 100);
+    private final SuburbPostcodeLookup suburbPostcodeLookup = new SuburbPostcodeLookup();
+    private final SuburbPostcodeChangeFeed suburbPostcodeChangeFeed = new SuburbPostcodeChangeFeed(100, 60, 100, 1, 5000);
+    private final Bulkheads bulkheads = new Bulkheads(bulkhead("lookup"), bulkhead("write"), bulkhead("bulk"));
+    private final SuburbPostcodeLookupLoader loader = new SuburbPostcodeLookupLoader(bulkConnectionPool,
+            suburbPostcodeLookup, suburbPostcodeChangeFeed, bulkheads, true, "", 0);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        bulkConnectionPool.getJdbcTemplate().execute("DROP TABLE IF EXISTS suburb_postcode");
+        bulkheads.shutdown();
+        suburbPostcodeChangeFeed.shutdown();
+    }
+
+    /**
+     * Description : Test reloading from the database swaps the index and reports the row count difference.
+     */
+    @Test
+    void testReloadFromDatabase() {
+        JdbcTemplate jdbcTemplate = bulkConnectionPool.getJdbcTemplate();
+        jdbcTemplate.execute("CREATE TABLE suburb_postcode (suburb_name VARCHAR(255), postcode INT)");
+        jdbcTemplate.update("INSERT INTO suburb_postcode VALUES ('DABEE, NSW', 2849), ('NORTH SYDNEY, NSW', 2060)");
+
+        DatasetReloadReport report = loader.reloadFromDatabase().join();
+
+        assertEquals("database", report.getSource());
+        assertEquals(0, report.getPreviousRows());
+        assertEquals(2, report.getCurrentRows());
+        assertEquals(2, report.getAddedRows());
+        assertEquals(0, report.getRemovedRows());
+        assertEquals(List.of("DABEE, NSW"), suburbPostcodeLookup.findSuburbs(2849));
+        assertEquals(0, suburbPostcodeChangeFeed.latestSequence());
+    }
+
+    /**
+     * Description : Test reloading from a file replaces the previous dataset without publishing its additions.
+     */
+    @Test
+    void testReloadFromFile() throws Exception {
+        suburbPostcodeLookup.replace(SuburbPostcodeIndex.builder()
+                .add("DABEE, NSW", 2849)
+                .add("OLD SUBURB, VIC", 3999)
+                .build());
+        Path file = Files.writeString(tempDir.resolve("postcodes.csv"),
+                "postcode,suburb_name\n2849,DABEE, NSW\n2060,\"NORTH SYDNEY, NSW\"\n\n2059,NORTH SYDNEY, NSW\n");
+
+        DatasetReloadReport report = loader.reloadFromFile(file).join();
+
+        assertEquals(2, report.getPreviousRows());
+        assertEquals(3, report.getCurrentRows());
+        assertEquals(2, report.getAddedRows());
+        assertEquals(1, report.getRemovedRows());
+        assertEquals(List.of(2059, 2060), suburbPostcodeLookup.findPostcodes("NORTH SYDNEY, NSW"));
+        assertTrue(suburbPostcodeLookup.findSuburbs(3999).isEmpty());
+        // Nothing was stored, so nothing is published on the change stream
+        assertEquals(0, suburbPostcodeChangeFeed.latestSequence());
+    }
+
+    /**
+     * Description : Test an invalid file leaves the current dataset in place.
+     */
+    @Test
+    void testReloadFromInvalidFileKeepsCurrentIndex() throws Exception {
+        SuburbPostcodeIndex current = SuburbPostcodeIndex.builder().add("DABEE, NSW", 2849).build();
+        suburbPostcodeLookup.replace(current);
+        Path file = Files.writeString(tempDir.resolve("postcodes.csv"), "2849,DABEE, NSW\nABCD,BROKEN\n");
+
+        CompletionException e = assertThrows(CompletionException.class, () -> loader.reloadFromFile(file).join());
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertSame(current, suburbPostcodeLookup.getIndex());
+    }
+
+    /**
+     * Description : Test files are only read from the reload directory.
+     */
+    @Test
+    void testReloadFromFileStaysInReloadDirectory() throws Exception {
+        Path directory = Files.createDirectory(tempDir.resolve("reload"));
+        Files.writeString(directory.resolve("postcodes.csv"), "2849,DABEE, NSW\n");
+        Files.writeString(tempDir.resolve("outside.csv"), "2060,NORTH SYDNEY, NSW\n");
+        SuburbPostcodeLookupLoader directoryLoader = new SuburbPostcodeLookupLoader(bulkConnectionPool,
+                suburbPostcodeLookup, suburbPostcodeChangeFeed, bulkheads, true, directory.toString(), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> directoryLoader.reloadFromFile("../outside.csv"));
+        assertThrows(IllegalArgumentException.class, () -> directoryLoader.reloadFromFile(tempDir.resolve("outside.csv").toString()));
+        assertThrows(IllegalArgumentException.class, () -> directoryLoader.reloadFromFile("missing.csv"));
+        assertThrows(IllegalArgumentException.class, () -> loader.reloadFromFile("postcodes.csv"));
+
+        assertEquals("file:postcodes.csv", directoryLoader.reloadFromFile("postcodes.csv").join().getSource());
+        assertEquals(List.of("DABEE, NSW"), suburbPostcodeLookup.findSuburbs(2849));
+    }
+
+    /**
+     * Description : Test the scheduled refresh picks up rows written to the table by another instance and
+     *    publishes them.
+     */
+    @Test
+    void testRefreshPicksUpRowsAddedElsewhere() {
+        JdbcTemplate jdbcTemplate = bulkConnectionPool.getJdbcTemplate();
+        jdbcTemplate.execute("CREATE TABLE suburb_postcode (suburb_name VARCHAR(255), postcode INT)");
+        jdbcTemplate.update("INSERT INTO suburb_postcode VALUES ('DABEE, NSW', 2849)");
+        loader.reloadFromDatabase().join();
+        jdbcTemplate.update("INSERT INTO suburb_postcode VALUES ('NORTH SYDNEY, NSW', 2060)");
+        assertTrue(suburbPostcodeLookup.findSuburbs(2060).isEmpty());
+
+        loader.refresh();
+
+        assertEquals(List.of("NORTH SYDNEY, NSW"), suburbPostcodeLookup.findSuburbs(2060));
+        assertEquals(1, suburbPostcodeChangeFeed.latestSequence());
+    }
+
+    private static Bulkhead bulkhead(String name) {
+        return new Bulkhead(name, 1, 1, runnable -> runnable, new DatabaseCircuitBreaker(name, 5, 5000));
+    }
+}
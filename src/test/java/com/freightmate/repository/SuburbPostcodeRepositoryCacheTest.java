@@ -0,0 +1,113 @@
+package com.freightmate.repository;
+
+import com.freightmate.dto.SuburbNameInfo;
+import com.freightmate.entity.SuburbPostcodeEntity;
+import com.freightmate.entity.SuburbPostcodeId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeRepositoryCacheTest Repository Test Class for the second-level and query cache. Runs
+ *    without a test transaction so that every repository call commits, as it does in the application.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SuburbPostcodeRepositoryCacheTest {
+
+    @Autowired
+    private SuburbPostcodeRepository suburbPostcodeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        suburbPostcodeRepository.saveAll(List.of(
+                new SuburbPostcodeEntity(new SuburbPostcodeId("NORTH SYDNEY, NSW", 2060)),
+                new SuburbPostcodeEntity(new SuburbPostcodeId("WAVERTON, NSW", 2060))));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        suburbPostcodeRepository.deleteAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Description : Test a repeated lookup is answered from the query cache.
+     */
+    @Test
+    void testRepeatedLookupHitsQueryCache() {
+        List<SuburbNameInfo> first = suburbPostcodeRepository.findSuburbNamesByPostcode(2060);
+        List<SuburbNameInfo> second = suburbPostcodeRepository.findSuburbNamesByPostcode(2060);
+
+        assertEquals(first, second);
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCachePutCount());
+    }
+
+    /**
+     * Description : Test query cache hits, misses and puts are reported per region.
+     */
+    @Test
+    void testQueryCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new QueryCacheMetrics(entityManagerFactory).bindTo(registry);
+
+        suburbPostcodeRepository.findPostcodesBySuburbName("WAVERTON, NSW");
+        suburbPostcodeRepository.findPostcodesBySuburbName("WAVERTON, NSW");
+        suburbPostcodeRepository.findPostcodesBySuburbName("WAVERTON, NSW");
+
+        String region = SuburbPostcodeRepository.LOOKUP_CACHE_REGION;
+        assertEquals(2.0, registry.get("freightmate.query.cache.requests").tags("region", region, "result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("freightmate.query.cache.requests").tags("region", region, "result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("freightmate.query.cache.puts").tags("region", region).functionCounter().count());
+    }
+
+    /**
+     * Description : Test an insert invalidates the cached lookups of the table.
+     */
+    @Test
+    void testInsertInvalidatesQueryCache() {
+        assertEquals(List.of(2060), suburbPostcodeRepository.findPostcodesBySuburbName("NORTH SYDNEY, NSW"));
+
+        suburbPostcodeRepository.save(new SuburbPostcodeEntity(new SuburbPostcodeId("NORTH SYDNEY, NSW", 2059)));
+
+        List<Integer> postcodes = suburbPostcodeRepository.findPostcodesBySuburbName("NORTH SYDNEY, NSW");
+        assertEquals(2, postcodes.size());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    /**
+     * Description : Test entities loaded by id are served from the second-level cache.
+     */
+    @Test
+    void testFindByIdHitsSecondLevelCache() {
+        SuburbPostcodeId id = new SuburbPostcodeId("WAVERTON, NSW", 2060);
+
+        assertTrue(suburbPostcodeRepository.findById(id).isPresent());
+        assertTrue(suburbPostcodeRepository.findById(id).isPresent());
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+        assertNotNull(statistics.getDomainDataRegionStatistics(SuburbPostcodeEntity.class.getName()));
+    }
+}
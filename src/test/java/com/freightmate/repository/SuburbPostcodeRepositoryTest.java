@@ -0,0 +1,77 @@
+package com.freightmate.repository;
+
+import com.freightmate.dto.SuburbNameInfo;
+import com.freightmate.entity.SuburbPostcodeEntity;
+import com.freightmate.entity.SuburbPostcodeId;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeRepositoryTest Repository Test Class for the lookup projections
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class SuburbPostcodeRepositoryTest {
+
+    @Autowired
+    private SuburbPostcodeRepository suburbPostcodeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        testEntityManager.persist(new SuburbPostcodeEntity(new SuburbPostcodeId("NORTH SYDNEY, NSW", 2059)));
+        testEntityManager.persist(new SuburbPostcodeEntity(new SuburbPostcodeId("NORTH SYDNEY, NSW", 2060)));
+        testEntityManager.persist(new SuburbPostcodeEntity(new SuburbPostcodeId("WAVERTON, NSW", 2060)));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    /**
+     * Description : Test suburbs are projected into DTOs without loading entities into the persistence context.
+     */
+    @Test
+    void testFindSuburbNamesByPostcode() {
+        List<SuburbNameInfo> suburbs = suburbPostcodeRepository.findSuburbNamesByPostcode(2060);
+
+        assertEquals(2, suburbs.size());
+        assertTrue(suburbs.contains(new SuburbNameInfo("WAVERTON, NSW")));
+        assertEquals(0, testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    /**
+     * Description : Test postcodes are selected as scalars without loading entities into the persistence context.
+     */
+    @Test
+    void testFindPostcodesBySuburbName() {
+        List<Integer> postcodes = suburbPostcodeRepository.findPostcodesBySuburbName("NORTH SYDNEY, NSW");
+
+        assertEquals(2, postcodes.size());
+        assertTrue(postcodes.containsAll(List.of(2059, 2060)));
+        assertEquals(0, testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    /**
+     * Description : Test the existing combinations of a batch are found with one query.
+     */
+    @Test
+    void testFindExistingIds() {
+        List<SuburbPostcodeId> existing = suburbPostcodeRepository.findExistingIds(List.of(
+                new SuburbPostcodeId("NORTH SYDNEY, NSW", 2060),
+                new SuburbPostcodeId("WAVERTON, NSW", 2059),
+                new SuburbPostcodeId("WAVERTON, NSW", 2060)));
+
+        assertEquals(2, existing.size());
+        assertTrue(existing.containsAll(List.of(new SuburbPostcodeId("NORTH SYDNEY, NSW", 2060),
+                new SuburbPostcodeId("WAVERTON, NSW", 2060))));
+    }
+}
@@ -0,0 +1,71 @@
+package com.freightmate.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote AdaptiveConcurrencyLimiterTest Test Class for the adaptive concurrency limit
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    /**
+     * Description : Test requests over the limit are rejected and counted.
+     */
+    @Test
+    void testRejectsOverLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        assertEquals(Optional.empty(), limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+        assertEquals(3, limiter.getInFlight());
+
+        permits.get(0).onIgnore();
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    /**
+     * Description : Test dropped calls shrink the limit down to the minimum.
+     */
+    @Test
+    void testDroppedCallsBackOff() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 50);
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().orElseThrow().onDropped();
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Description : Test a saturated limit with steady latency grows up to the maximum.
+     */
+    @Test
+    void testSteadyLatencyUnderLoadGrows() {
+        AtomicLong nanoClock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 16, nanoClock::get);
+        for (int round = 0; round < 50; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            Optional<AdaptiveConcurrencyLimiter.Permit> permit;
+            while ((permit = limiter.tryAcquire()).isPresent()) {
+                permits.add(permit.get());
+            }
+            nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+        }
+
+        assertEquals(16, limiter.getLimit());
+    }
+}
@@ -0,0 +1,123 @@
+package com.freightmate.resilience;
+
+import com.freightmate.datasource.WriteConnectionPool;
+import com.freightmate.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote BulkheadsTest Test Class for the lookup, write and bulk bulkheads
+ */
+class BulkheadsTest {
+
+    private static final ThreadLocal<String> CONTEXT = new ThreadLocal<>();
+
+    private final WriteConnectionPool writeConnectionPool = new WriteConnectionPool(new DriverManagerDataSource());
+
+    private final Bulkheads bulkheads = new Bulkheads(List.of(runnable -> {
+        String value = CONTEXT.get();
+        return () -> {
+            CONTEXT.set(value);
+            try {
+                runnable.run();
+            } finally {
+                CONTEXT.remove();
+            }
+        };
+    }), writeConnectionPool, 1, 1, 1, 1, 1, 1, 1, 60_000);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkheads.shutdown();
+    }
+
+    /**
+     * Description : Test work over the threads and queue of a bulkhead is rejected while other bulkheads still run.
+     */
+    @Test
+    void testFullBulkheadRejectsOnlyItsOwnWork() {
+        bulkheads.write().submit(this::awaitRelease);
+        bulkheads.write().submit(this::awaitRelease);
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> bulkheads.write().submit(() -> "rejected").join());
+
+        assertInstanceOf(BulkheadFullException.class, e.getCause());
+        assertEquals("lookup", bulkheads.lookup().submit(() -> "lookup").join());
+    }
+
+    /**
+     * Description : Test only the write bulkhead takes its connections from the write connection pool.
+     */
+    @Test
+    void testWriteBulkheadUsesWriteConnectionPool() {
+        assertTrue(bulkheads.write().submit(writeConnectionPool::isWriterThread).join());
+        assertFalse(bulkheads.lookup().submit(writeConnectionPool::isWriterThread).join());
+        assertFalse(bulkheads.bulk().submit(writeConnectionPool::isWriterThread).join());
+    }
+
+    /**
+     * Description : Test a failing write opens the circuit breaker of the write bulkhead only.
+     */
+    @Test
+    void testCircuitBreakerPerBulkhead() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkheads.bindTo(registry);
+        bulkheads.write().getCircuitBreaker().onFailure();
+
+        assertEquals(1.0, registry.get("freightmate.db.circuit-breaker.open").tag("bulkhead", "write").gauge().value());
+        assertEquals(0.0, registry.get("freightmate.db.circuit-breaker.open").tag("bulkhead", "lookup").gauge().value());
+        assertTrue(bulkheads.lookup().getCircuitBreaker().tryAcquirePermission());
+    }
+
+    /**
+     * Description : Test the task decorators carry the caller's context over to the bulkhead thread.
+     */
+    @Test
+    void testTaskDecoratorsPropagateContext() {
+        CONTEXT.set("client-1");
+        try {
+            assertEquals("client-1", bulkheads.lookup().submit(CONTEXT::get).join());
+        } finally {
+            CONTEXT.remove();
+        }
+    }
+
+    /**
+     * Description : Test queue depth and rejections are reported per bulkhead.
+     */
+    @Test
+    void testMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkheads.bindTo(registry);
+        bulkheads.bulk().submit(this::awaitRelease);
+        bulkheads.bulk().submit(this::awaitRelease);
+        bulkheads.bulk().submit(this::awaitRelease);
+
+        assertEquals(1.0, registry.get("freightmate.bulkhead.queue-depth").tag("bulkhead", "bulk").gauge().value());
+        assertEquals(1.0, registry.get("freightmate.bulkhead.rejected").tag("bulkhead", "bulk").functionCounter().count());
+        assertEquals(0.0, registry.get("freightmate.bulkhead.rejected").tag("bulkhead", "lookup").functionCounter().count());
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.freightmate.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote DatabaseCircuitBreakerTest Test Class for the database circuit breaker
+ */
+class DatabaseCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final DatabaseCircuitBreaker breaker = new DatabaseCircuitBreaker("lookup", 3, 5000, clock::get);
+
+    /**
+     * Description : Test the breaker opens after consecutive failures and refuses calls.
+     */
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onFailure();
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(5, breaker.retryAfterSeconds());
+    }
+
+    /**
+     * Description : Test a single trial call is let through after the open period.
+     */
+    @Test
+    void testHalfOpenTrial() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onFailure();
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    /**
+     * Description : Test only availability errors count as failures.
+     */
+    @Test
+    void testIsDatabaseFailure() {
+        assertTrue(DatabaseCircuitBreaker.isDatabaseFailure(new QueryTimeoutException("timeout")));
+        assertFalse(DatabaseCircuitBreaker.isDatabaseFailure(new EmptyResultDataAccessException(1)));
+        assertFalse(DatabaseCircuitBreaker.isDatabaseFailure(new IllegalArgumentException()));
+    }
+}
@@ -0,0 +1,243 @@
+package com.freightmate.service;
+
+import com.freightmate.dto.SuburbPostcodeChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeChangeFeedTest Test Class for the change stream
+ */
+class SuburbPostcodeChangeFeedTest {
+
+    private final SuburbPostcodeChangeFeed feed = new SuburbPostcodeChangeFeed(3, 60, 2, 2, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    /**
+     * Description : Test changes are numbered and can be resumed from a sequence.
+     */
+    @Test
+    void testChangesSince() {
+        feed.publish("DABEE, NSW", 2849);
+        feed.publish("NORTH SYDNEY, NSW", 2060);
+
+        assertEquals(2, feed.latestSequence());
+        assertEquals(List.of(new SuburbPostcodeChange(2, feed.idOf(2), "NORTH SYDNEY, NSW", 2060)), feed.changesSince(1));
+        assertTrue(feed.changesSince(2).isEmpty());
+    }
+
+    /**
+     * Description : Test a sequence older than the retained history, or from before a restart, is expired.
+     */
+    @Test
+    void testExpiredSequence() {
+        for (int postcode = 2000; postcode < 2005; postcode++) {
+            feed.publish("SYDNEY, NSW", postcode);
+        }
+
+        assertTrue(feed.isExpired(1));
+        assertFalse(feed.isExpired(2));
+        assertTrue(feed.isExpired(6));
+        assertEquals(3, feed.changesSince(0).size());
+        assertEquals(2002, feed.changesSince(0).get(0).getPostcode());
+    }
+
+    /**
+     * Description : Test a long-poll completes when a change is published.
+     */
+    @Test
+    void testPollCompletesOnPublish() throws Exception {
+        feed.publish("DABEE, NSW", 2849);
+        DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> result = feed.poll(1, 10_000);
+        assertFalse(result.hasResult());
+
+        feed.publish("NORTH SYDNEY, NSW", 2060);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.hasResult() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        @SuppressWarnings("unchecked")
+        ResponseEntity<List<SuburbPostcodeChange>> response = (ResponseEntity<List<SuburbPostcodeChange>>) result.getResult();
+        assertNotNull(response);
+        assertEquals(List.of(new SuburbPostcodeChange(2, feed.idOf(2), "NORTH SYDNEY, NSW", 2060)), response.getBody());
+    }
+
+    /**
+     * Description : Test a long-poll with changes already retained completes straight away.
+     */
+    @Test
+    void testPollWithRetainedChanges() {
+        feed.publish("DABEE, NSW", 2849);
+
+        DeferredResult<ResponseEntity<List<SuburbPostcodeChange>>> result = feed.poll(0, 10_000);
+
+        assertTrue(result.hasResult());
+    }
+
+    /**
+     * Description : Test an id issued by another instance, or before a restart, is never resumed from even when
+     *    this instance has published as many changes.
+     */
+    @Test
+    void testIdOfAnotherInstanceIsExpired() throws Exception {
+        SuburbPostcodeChangeFeed otherInstance = new SuburbPostcodeChangeFeed(3, 60, 2, 2, 60_000);
+        try {
+            otherInstance.publish("DABEE, NSW", 2849);
+            for (int postcode = 2000; postcode < 2003; postcode++) {
+                feed.publish("SYDNEY, NSW", postcode);
+            }
+            String foreignId = otherInstance.idOf(1);
+
+            assertEquals(SuburbPostcodeChangeFeed.EXPIRED, feed.sequenceOf(foreignId));
+            assertEquals(SuburbPostcodeChangeFeed.EXPIRED, feed.sequenceOf("1"));
+            assertEquals(1, feed.sequenceOf(feed.idOf(1)));
+            assertEquals(0, feed.sequenceOf("0"));
+
+            ResponseEntity<?> response = (ResponseEntity<?>) feed.poll(foreignId, 10_000).getResult();
+            assertEquals(410, response.getStatusCodeValue());
+            assertEquals(feed.idOf(3), response.getHeaders().getFirst(SuburbPostcodeChangeFeed.LATEST_ID_HEADER));
+
+            List<String> sent = new CopyOnWriteArrayList<>();
+            feed.subscribe(new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    StringBuilder event = new StringBuilder();
+                    builder.build().forEach(part -> event.append(part.getData()));
+                    sent.add(event.toString());
+                }
+            }, feed.sequenceOf(foreignId));
+            awaitTrue(() -> !sent.isEmpty());
+            assertEquals("event:" + SuburbPostcodeChangeFeed.RESET_EVENT + "\ndata:" + feed.idOf(3) + "\n\n", sent.get(0));
+        } finally {
+            otherInstance.shutdown();
+        }
+    }
+
+    /**
+     * Description : Test a subscriber stuck in a write does not hold up the others, and is disconnected once its
+     *    queue overflows.
+     */
+    @Test
+    void testSlowSubscriberDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> slowError = new AtomicReference<>();
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public synchronized void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public synchronized void completeWithError(Throwable ex) {
+                slowError.set(ex);
+            }
+        };
+        AtomicInteger fastSent = new AtomicInteger();
+        SseEmitter fast = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                fastSent.incrementAndGet();
+            }
+        };
+        feed.subscribe(slow, 0L);
+        feed.subscribe(fast, 0L);
+
+        try {
+            for (int postcode = 2000; postcode < 2004; postcode++) {
+                feed.publish("SYDNEY, NSW", postcode);
+                int expected = postcode - 1999;
+                awaitTrue(() -> fastSent.get() == expected);
+            }
+            awaitTrue(() -> feed.subscriberCount() == 1);
+            release.countDown();
+            awaitTrue(() -> slowError.get() != null);
+
+            assertEquals(4, fastSent.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Description : Test a subscriber whose write stays blocked is disconnected after the send timeout, while the
+     *    others keep receiving changes even with a single sender thread.
+     */
+    @Test
+    void testBlockedWriteIsDroppedAfterSendTimeout() throws Exception {
+        SuburbPostcodeChangeFeed singleSender = new SuburbPostcodeChangeFeed(100, 60, 100, 1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> blockedError = new AtomicReference<>();
+        SseEmitter blocked = new SseEmitter() {
+            @Override
+            public synchronized void send(SseEventBuilder builder) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public synchronized void completeWithError(Throwable ex) {
+                blockedError.set(ex);
+            }
+        };
+        AtomicInteger sent = new AtomicInteger();
+        SseEmitter healthy = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sent.incrementAndGet();
+            }
+        };
+        try {
+            singleSender.subscribe(blocked, 0L);
+            singleSender.subscribe(healthy, 0L);
+
+            singleSender.publish("DABEE, NSW", 2849);
+            singleSender.publish("NORTH SYDNEY, NSW", 2060);
+
+            awaitTrue(() -> sent.get() == 2);
+            awaitTrue(() -> singleSender.subscriberCount() == 1);
+            // Completed only once the blocked write lets go of the emitter
+            assertNull(blockedError.get());
+            release.countDown();
+            awaitTrue(() -> blockedError.get() != null);
+            singleSender.publish("MILSONS POINT, NSW", 2061);
+            awaitTrue(() -> sent.get() == 3);
+        } finally {
+            release.countDown();
+            singleSender.shutdown();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -1,24 +1,44 @@
 package com.freightmate.service;
 
+import com.freightmate.datasource.ReadYourWritesTracker;
 import com.freightmate.dto.SuburbNameInfo;
 import com.freightmate.dto.SuburbPostcodeInfo;
 import com.freightmate.entity.SuburbPostcodeEntity;
 import com.freightmate.entity.SuburbPostcodeId;
 import com.freightmate.exception.ResourceNotFoundException;
+import com.freightmate.exception.ServiceUnavailableException;
+import com.freightmate.lookup.SuburbPostcodeLookup;
 import com.freightmate.repository.SuburbPostcodeRepository;
+import com.freightmate.resilience.AdaptiveConcurrencyLimiter;
+import com.freightmate.resilience.Bulkhead;
+import com.freightmate.resilience.Bulkheads;
+import com.freightmate.resilience.DatabaseCircuitBreaker;
+import com.freightmate.resilience.LastKnownGoodStore;
+import com.freightmate.resilience.StaleResultMarker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,9 +51,47 @@ import static org.mockito.Mockito.*;
     @Mock
     private SuburbPostcodeRepository suburbPostcodeRepository;
 
+    @Mock
+    private SuburbPostcodeLookup suburbPostcodeLookup;
+
+    @Mock
+    private SuburbPostcodeWriteBehindQueue suburbPostcodeWriteBehindQueue;
+
+    @Mock
+    private SuburbPostcodeChangeFeed suburbPostcodeChangeFeed;
+
+    @Spy
+    private AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(10, 2, 50);
+
+    private final DatabaseCircuitBreaker lookupCircuitBreaker = new DatabaseCircuitBreaker("lookup", 1, 60_000);
+
+    private final DatabaseCircuitBreaker writeCircuitBreaker = new DatabaseCircuitBreaker("write", 1, 60_000);
+
+    @Spy
+    private LastKnownGoodStore lastKnownGoodStore = new LastKnownGoodStore(100);
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Spy
+    private Bulkheads bulkheads = new Bulkheads(new Bulkhead("lookup", 1, 10, runnable -> runnable, lookupCircuitBreaker),
+            new Bulkhead("write", 1, 10, runnable -> runnable, writeCircuitBreaker),
+            new Bulkhead("bulk", 1, 1, runnable -> runnable, new DatabaseCircuitBreaker("bulk", 1, 60_000)));
+
     @InjectMocks
     private SuburbPostcodeServiceImpl suburbPostcodeService;
 
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        bulkheads.shutdown();
+    }
+
     /**
      * Description : Test when a valid Suburb is provided for existing Postcode.
      */
@@ -75,10 +133,10 @@ import static org.mockito.Mockito.*;
     void testGetSuburbsByPostcode_ValidPostcodeWithExistingSuburbs() throws ResourceNotFoundException {
         // Arrange
         int validPostcode = 3000;
-        List<SuburbPostcodeEntity> existingSuburbs = new ArrayList<>();
-        existingSuburbs.add(new SuburbPostcodeEntity(new SuburbPostcodeId("Suburb1", validPostcode)));
-        existingSuburbs.add(new SuburbPostcodeEntity(new SuburbPostcodeId("Suburb2", validPostcode)));
-        when(suburbPostcodeRepository.findByIdPostcode(validPostcode)).thenReturn(existingSuburbs);
+        List<SuburbNameInfo> existingSuburbs = new ArrayList<>();
+        existingSuburbs.add(new SuburbNameInfo("Suburb1"));
+        existingSuburbs.add(new SuburbNameInfo("Suburb2"));
+        when(suburbPostcodeRepository.findSuburbNamesByPostcode(validPostcode)).thenReturn(existingSuburbs);
 
         // Act
         List<SuburbNameInfo> result = suburbPostcodeService.getSuburbsByPostcode(validPostcode);
@@ -86,8 +144,8 @@ import static org.mockito.Mockito.*;
         // Assert
         assertNotNull(result);
         assertEquals(existingSuburbs.size(), result.size());
-        assertEquals(existingSuburbs.get(0).getId().getSuburbName(), result.get(0).getSuburbName());
-        assertEquals(existingSuburbs.get(1).getId().getSuburbName(), result.get(1).getSuburbName());
+        assertEquals(existingSuburbs.get(0).getSuburbName(), result.get(0).getSuburbName());
+        assertEquals(existingSuburbs.get(1).getSuburbName(), result.get(1).getSuburbName());
     }
 
     /**
@@ -97,7 +155,7 @@ import static org.mockito.Mockito.*;
     void testGetSuburbsByPostcode_ValidPostcodeWithNoExistingSuburbs() {
         // Arrange
         int validPostcode = 3000;
-        when(suburbPostcodeRepository.findByIdPostcode(validPostcode)).thenReturn(new ArrayList<>());
+        when(suburbPostcodeRepository.findSuburbNamesByPostcode(validPostcode)).thenReturn(new ArrayList<>());
 
         // Act and Assert
         assertThrows(ResourceNotFoundException.class, () -> suburbPostcodeService.getSuburbsByPostcode(validPostcode));
@@ -137,6 +195,43 @@ import static org.mockito.Mockito.*;
         assertThrows(IllegalArgumentException.class, () -> suburbPostcodeService.addSuburbPostcode(validDTO));
     }
 
+    /**
+     * Description : Test inserts are not held back by the concurrency limit of database bound lookups.
+     */
+    @Test
+    void testAddSuburbPostcode_IgnoresConcurrencyLimit() {
+        // Arrange
+        SuburbPostcodeInfo validDTO = new SuburbPostcodeInfo("Valid Suburb", 3000);
+        SuburbPostcodeEntity entityToSave = new SuburbPostcodeEntity(new SuburbPostcodeId(validDTO.getSuburbName(), validDTO.getPostcode()));
+        when(suburbPostcodeRepository.save(entityToSave)).thenReturn(entityToSave);
+
+        // Act
+        suburbPostcodeService.addSuburbPostcode(validDTO);
+
+        // Assert
+        verifyNoInteractions(concurrencyLimiter);
+    }
+
+    /**
+     * Description : Test failing inserts open the breaker of the write bulkhead only, lookups still reach the database.
+     */
+    @Test
+    void testAddSuburbPostcode_FailuresDoNotOpenLookupBreaker() {
+        // Arrange
+        SuburbPostcodeInfo validDTO = new SuburbPostcodeInfo("Valid Suburb", 3000);
+        when(suburbPostcodeRepository.existsById(any())).thenThrow(new QueryTimeoutException("Query timed out"));
+        when(suburbPostcodeRepository.findSuburbNamesByPostcode(3000)).thenReturn(List.of(new SuburbNameInfo("Suburb1")));
+
+        // Act
+        assertThrows(ServiceUnavailableException.class, () -> suburbPostcodeService.addSuburbPostcode(validDTO));
+        List<SuburbNameInfo> result = suburbPostcodeService.getSuburbsByPostcode(3000);
+
+        // Assert
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, writeCircuitBreaker.getState());
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, lookupCircuitBreaker.getState());
+        assertEquals(List.of(new SuburbNameInfo("Suburb1")), result);
+    }
+
     /**
      * Description : Test when a valid postcode is provided it returns a list.
      */
@@ -145,34 +240,249 @@ import static org.mockito.Mockito.*;
         // given - precondition
         int validPostcode = 9999;
 
-        List<SuburbPostcodeEntity> mockSuburbEntities = new ArrayList<>();
+        List<SuburbNameInfo> mockSuburbNames = new ArrayList<>();
 
-        // Create instances of SuburbPostcodeEntity and set the embedded id
-        SuburbPostcodeEntity suburbEntity1 = new SuburbPostcodeEntity();
-        SuburbPostcodeId id1 = new SuburbPostcodeId();
-        id1.setSuburbName("NORTH POLE");
-        id1.setPostcode(validPostcode);
-        suburbEntity1.setId(id1);
+        // Create the projected suburb names
+        SuburbNameInfo suburbName1 = new SuburbNameInfo();
+        suburbName1.setSuburbName("NORTH POLE");
 
-        // Add the created entities to the mockSuburbEntities list
-        mockSuburbEntities.add(suburbEntity1);
+        // Add the created names to the mockSuburbNames list
+        mockSuburbNames.add(suburbName1);
 
         // Stub repository behavior
-        when(suburbPostcodeRepository.findByIdPostcode(validPostcode)).thenReturn(mockSuburbEntities);
+        when(suburbPostcodeRepository.findSuburbNamesByPostcode(validPostcode)).thenReturn(mockSuburbNames);
 
         // Act
         List<SuburbNameInfo> result = suburbPostcodeService.getSuburbsByPostcode(validPostcode);
 
         // Assert
         assertThat(result, is(not(empty())));
-        assertThat(result.size(), is(equalTo(mockSuburbEntities.size())));
+        assertThat(result.size(), is(equalTo(mockSuburbNames.size())));
 
         // Verify repository method call
-        verify(suburbPostcodeRepository).findByIdPostcode(validPostcode);
+        verify(suburbPostcodeRepository).findSuburbNamesByPostcode(validPostcode);
         verifyNoMoreInteractions(suburbPostcodeRepository);
     }
 
 
+    /**
+     * Description : Test when the postcode is held in memory the repository is not queried.
+     */
+    @Test
+    void testGetSuburbsByPostcode_ServedFromLookup() {
+        // Arrange
+        int validPostcode = 2060;
+        when(suburbPostcodeLookup.findSuburbs(validPostcode)).thenReturn(List.of("LAVENDER BAY, NSW", "NORTH SYDNEY, NSW"));
+
+        // Act
+        List<SuburbNameInfo> result = suburbPostcodeService.getSuburbsByPostcode(validPostcode);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("LAVENDER BAY, NSW", result.get(0).getSuburbName());
+        verifyNoInteractions(suburbPostcodeRepository);
+    }
+
+    /**
+     * Description : Test when the suburb is held in memory the repository is not queried.
+     */
+    @Test
+    void testGetPostcodesBySuburb_ServedFromLookup() {
+        // Arrange
+        String validSuburb = "NORTH SYDNEY, NSW";
+        when(suburbPostcodeLookup.findPostcodes(validSuburb)).thenReturn(List.of(2059, 2060));
+
+        // Act
+        Optional<List<Integer>> result = suburbPostcodeService.getPostcodesBySuburb(validSuburb);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(List.of(2059, 2060), result.get());
+        verifyNoInteractions(suburbPostcodeRepository);
+    }
+
+    /**
+     * Description : Test a saved combination is recorded in the in-memory lookup, on the change stream and for
+     *    read-your-writes routing.
+     */
+    @Test
+    void testAddSuburbPostcode_RecordsAdditionInLookup() {
+        // Arrange
+        SuburbPostcodeInfo validDTO = new SuburbPostcodeInfo("DABEE, NSW", 2849);
+        SuburbPostcodeEntity entityToSave = SuburbPostcodeInfo.convertDTOToEntity(validDTO);
+        when(suburbPostcodeRepository.existsById(entityToSave.getId())).thenReturn(false);
+        when(suburbPostcodeRepository.save(entityToSave)).thenReturn(entityToSave);
+
+        // Act
+        suburbPostcodeService.addSuburbPostcode(validDTO);
+
+        // Assert
+        verify(suburbPostcodeLookup).recordAddition("DABEE, NSW", 2849);
+        verify(suburbPostcodeChangeFeed).publish("DABEE, NSW", 2849);
+        verify(readYourWritesTracker).recordWrite();
+    }
+
+    /**
+     * Description : Test in write-behind mode the combination is queued instead of saved directly.
+     */
+    @Test
+    void testAddSuburbPostcode_WriteBehind() {
+        // Arrange
+        SuburbPostcodeInfo validDTO = new SuburbPostcodeInfo("DABEE, NSW", 2849);
+        SuburbPostcodeEntity entity = SuburbPostcodeInfo.convertDTOToEntity(validDTO);
+        when(suburbPostcodeWriteBehindQueue.isEnabled()).thenReturn(true);
+        when(suburbPostcodeWriteBehindQueue.submit(entity)).thenReturn(CompletableFuture.completedFuture(entity));
+
+        // Act
+        SuburbPostcodeInfo result = suburbPostcodeService.addSuburbPostcode(validDTO);
+
+        // Assert
+        assertEquals(validDTO, result);
+        verifyNoInteractions(suburbPostcodeRepository);
+    }
+
+    /**
+     * Description : Test in write-behind mode a queued duplicate is reported like a direct one.
+     */
+    @Test
+    void testAddSuburbPostcode_WriteBehindDuplicate() {
+        // Arrange
+        SuburbPostcodeInfo validDTO = new SuburbPostcodeInfo("DABEE, NSW", 2849);
+        when(suburbPostcodeWriteBehindQueue.isEnabled()).thenReturn(true);
+        when(suburbPostcodeWriteBehindQueue.submit(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("Suburb and postcode combination already exists.")));
+
+        // Act and Assert
+        assertThrows(IllegalArgumentException.class, () -> suburbPostcodeService.addSuburbPostcode(validDTO));
+    }
+
+    /**
+     * Description : Test database bound lookups are shed once the concurrency limit is reached.
+     */
+    @Test
+    void testGetSuburbsByPostcode_ConcurrencyLimitReached() {
+        // Arrange
+        when(concurrencyLimiter.tryAcquire()).thenReturn(Optional.empty());
+
+        // Act and Assert
+        assertThrows(ServiceUnavailableException.class, () -> suburbPostcodeService.getSuburbsByPostcode(3000));
+        verifyNoInteractions(suburbPostcodeRepository);
+    }
+
+    /**
+     * Description : Test lookups answered from memory are served even when the concurrency limit is reached.
+     */
+    @Test
+    void testGetPostcodesBySuburb_FromLookupIgnoresConcurrencyLimit() {
+        // Arrange
+        when(suburbPostcodeLookup.findPostcodes("DABEE, NSW")).thenReturn(List.of(2849));
+
+        // Act
+        Optional<List<Integer>> result = suburbPostcodeService.getPostcodesBySuburb("DABEE, NSW");
+
+        // Assert
+        assertEquals(List.of(2849), result.orElseThrow());
+        verifyNoInteractions(concurrencyLimiter);
+    }
+
+    /**
+     * Description : Test a timed out query serves the last known good result marked as stale.
+     */
+    @Test
+    void testGetPostcodesBySuburb_TimeoutServesLastKnownGood() {
+        // Arrange
+        String validSuburb = "DABEE, NSW";
+        when(suburbPostcodeRepository.findPostcodesBySuburbName(validSuburb))
+                .thenReturn(List.of(2849))
+                .thenThrow(new QueryTimeoutException("Query timed out"));
+        suburbPostcodeService.getPostcodesBySuburb(validSuburb);
+        assertFalse(StaleResultMarker.consume());
+
+        // Act
+        Optional<List<Integer>> result = suburbPostcodeService.getPostcodesBySuburb(validSuburb);
+
+        // Assert
+        assertEquals(List.of(2849), result.orElseThrow());
+        assertTrue(StaleResultMarker.consume());
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, lookupCircuitBreaker.getState());
+    }
+
+    /**
+     * Description : Test an open circuit breaker refuses lookups without a last known good result.
+     */
+    @Test
+    void testGetSuburbsByPostcode_OpenBreakerWithoutLastKnownGood() {
+        // Arrange
+        when(suburbPostcodeRepository.findSuburbNamesByPostcode(3000)).thenThrow(new QueryTimeoutException("Query timed out"));
+        assertThrows(ServiceUnavailableException.class, () -> suburbPostcodeService.getSuburbsByPostcode(3000));
+
+        // Act and Assert
+        assertThrows(ServiceUnavailableException.class, () -> suburbPostcodeService.getSuburbsByPostcode(3001));
+        verify(suburbPostcodeRepository, never()).findSuburbNamesByPostcode(3001);
+    }
+
+    /**
+     * Description : Test a full lookup bulkhead sheds the lookup without touching the database or the breaker.
+     */
+    @Test
+    void testGetSuburbsByPostcode_LookupBulkheadFull() {
+        // Arrange
+        Bulkhead lookupBulkhead = new Bulkhead("lookup", 1, 1, runnable -> runnable, lookupCircuitBreaker);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            lookupBulkhead.submit(() -> awaitQuietly(release));
+            lookupBulkhead.submit(() -> awaitQuietly(release));
+            doReturn(lookupBulkhead).when(bulkheads).lookup();
+
+            // Act and Assert
+            assertThrows(ServiceUnavailableException.class, () -> suburbPostcodeService.getSuburbsByPostcode(3000));
+            verifyNoInteractions(suburbPostcodeRepository);
+            assertEquals(1, lookupBulkhead.getRejected());
+            assertEquals(DatabaseCircuitBreaker.State.CLOSED, lookupCircuitBreaker.getState());
+        } finally {
+            release.countDown();
+            lookupBulkhead.shutdown();
+        }
+    }
+
+    /**
+     * Description : Test a non-blocking lookup answered from memory is already complete when returned.
+     */
+    @Test
+    void testFindSuburbsByPostcode_FromLookupCompletesImmediately() {
+        // Arrange
+        when(suburbPostcodeLookup.findSuburbs(2849)).thenReturn(List.of("DABEE, NSW"));
+
+        // Act
+        CompletableFuture<LookupResult<List<SuburbNameInfo>>> result = suburbPostcodeService.findSuburbsByPostcode(2849);
+
+        // Assert
+        assertTrue(result.isDone());
+        assertEquals(List.of(new SuburbNameInfo("DABEE, NSW")), result.join().getValue());
+        verifyNoInteractions(suburbPostcodeRepository, concurrencyLimiter);
+    }
+
+    /**
+     * Description : Test a non-blocking lookup reports a last known good result as stale in its result.
+     */
+    @Test
+    void testFindPostcodesBySuburb_TimeoutServesStaleResult() {
+        // Arrange
+        String validSuburb = "DABEE, NSW";
+        when(suburbPostcodeRepository.findPostcodesBySuburbName(validSuburb))
+                .thenReturn(List.of(2849))
+                .thenThrow(new QueryTimeoutException("Query timed out"));
+        assertFalse(suburbPostcodeService.findPostcodesBySuburb(validSuburb).join().isStale());
+
+        // Act
+        LookupResult<List<Integer>> result = suburbPostcodeService.findPostcodesBySuburb(validSuburb).join();
+
+        // Assert
+        assertTrue(result.isStale());
+        assertEquals(List.of(2849), result.getValue());
+        assertFalse(StaleResultMarker.consume());
+    }
+
     /**
      * Description : Test when an invalid postcode (less than 200) is provided.
      */
@@ -274,5 +584,12 @@ import static org.mockito.Mockito.*;
         assertEquals(12345, entity.getId().getPostcode());
     }
 
-
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.freightmate.service;
+
+import com.freightmate.datasource.WriteConnectionPool;
+import com.freightmate.entity.SuburbPostcodeEntity;
+import com.freightmate.entity.SuburbPostcodeId;
+import com.freightmate.exception.ServiceUnavailableException;
+import com.freightmate.repository.SuburbPostcodeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote SuburbPostcodeWriteBehindQueueTest Test Class for group committed writes
+ */
+class SuburbPostcodeWriteBehindQueueTest {
+
+    private final SuburbPostcodeRepository suburbPostcodeRepository = mock(SuburbPostcodeRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private SuburbPostcodeWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        queue = new SuburbPostcodeWriteBehindQueue(suburbPostcodeRepository, entityManager, transactionManager,
+                new WriteConnectionPool(mock(DataSource.class)),
+                "write-behind", 100, 50, 200);
+        queue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.stop();
+    }
+
+    private static SuburbPostcodeEntity entity(String suburbName, int postcode) {
+        return new SuburbPostcodeEntity(new SuburbPostcodeId(suburbName, postcode));
+    }
+
+    /**
+     * Description : Test records queued together are committed in a single transaction.
+     */
+    @Test
+    void testQueuedWritesShareOneCommit() {
+        List<CompletableFuture<SuburbPostcodeEntity>> results = List.of(
+                queue.submit(entity("DABEE, NSW", 2849)),
+                queue.submit(entity("NORTH SYDNEY, NSW", 2060)),
+                queue.submit(entity("LAVENDER BAY, NSW", 2060)));
+
+        results.forEach(CompletableFuture::join);
+
+        verify(entityManager, times(3)).persist(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(suburbPostcodeRepository, times(1)).findExistingIds(anyCollection());
+        verify(suburbPostcodeRepository, never()).existsById(any());
+    }
+
+    /**
+     * Description : Test existing and repeated combinations are rejected like a direct write would be.
+     */
+    @Test
+    void testDuplicatesAreRejected() {
+        when(suburbPostcodeRepository.findExistingIds(anyCollection()))
+                .thenReturn(List.of(new SuburbPostcodeId("DABEE, NSW", 2849)));
+
+        CompletableFuture<SuburbPostcodeEntity> existing = queue.submit(entity("DABEE, NSW", 2849));
+        CompletableFuture<SuburbPostcodeEntity> first = queue.submit(entity("NORTH SYDNEY, NSW", 2060));
+        CompletableFuture<SuburbPostcodeEntity> repeated = queue.submit(entity("NORTH SYDNEY, NSW", 2060));
+
+        assertEquals("NORTH SYDNEY, NSW", first.join().getId().getSuburbName());
+        CompletionException e = assertThrows(CompletionException.class, existing::join);
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        e = assertThrows(CompletionException.class, repeated::join);
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        verify(entityManager, times(1)).persist(any());
+    }
+
+    /**
+     * Description : Test a failed group commit is retried row by row so only the offending row fails.
+     */
+    @Test
+    void testFailedCommitIsRetriedPerRow() {
+        SuburbPostcodeEntity conflicting = entity("DABEE, NSW", 2849);
+        doThrow(new IllegalStateException("Duplicate entry")).when(entityManager).persist(conflicting);
+
+        CompletableFuture<SuburbPostcodeEntity> failed = queue.submit(conflicting);
+        CompletableFuture<SuburbPostcodeEntity> ok = queue.submit(entity("NORTH SYDNEY, NSW", 2060));
+
+        assertNotNull(ok.join());
+        assertThrows(CompletionException.class, failed::join);
+    }
+
+    /**
+     * Description : Test writes are refused once the queue is stopped.
+     */
+    @Test
+    void testSubmitAfterStopIsRejected() throws InterruptedException {
+        queue.stop();
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> queue.submit(entity("DABEE, NSW", 2849)).join());
+        assertInstanceOf(ServiceUnavailableException.class, e.getCause());
+    }
+}
@@ -0,0 +1,109 @@
+package com.freightmate.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote TracerTest Test Class for head-based sampled tracing
+ */
+class TracerTest {
+
+    private final List<Span> exported = new CopyOnWriteArrayList<>();
+
+    private final Tracer sampleAll = new Tracer(exported::add, 1.0, () -> 0.5);
+
+    @AfterEach
+    void tearDown() {
+        sampleAll.clear();
+    }
+
+    /**
+     * Description : Test spans of a sampled request are nested under the root span and exported when closed.
+     */
+    @Test
+    void testSampledSpansAreNested() {
+        try (Span root = sampleAll.startTrace("GET /api/v1/suburbs/2849", null)) {
+            try (Span service = sampleAll.startSpan("service")) {
+                sampleAll.startSpan("repository").close();
+                assertEquals(root.getSpanId(), service.getParentSpanId());
+            }
+        }
+
+        assertEquals(List.of("repository", "service", "GET /api/v1/suburbs/2849"),
+                exported.stream().map(Span::getName).toList());
+        assertEquals(exported.get(1).getSpanId(), exported.get(0).getParentSpanId());
+        assertNull(exported.get(2).getParentSpanId());
+        assertTrue(exported.stream().allMatch(span -> span.getTraceId().equals(exported.get(2).getTraceId())));
+        assertFalse(sampleAll.isTracing());
+    }
+
+    /**
+     * Description : Test requests that are not sampled only get the no-op span and export nothing.
+     */
+    @Test
+    void testUnsampledRequestRecordsNothing() {
+        Tracer sampleNone = new Tracer(exported::add, 0.0, () -> 0.0);
+
+        Span root = sampleNone.startTrace("GET /api/v1/postcodes", null);
+        Span child = sampleNone.startSpan("service");
+        child.tag("key", "value").close();
+        root.close();
+
+        assertFalse(root.isSampled());
+        assertSame(root, child);
+        assertFalse(sampleNone.isTracing());
+        assertTrue(exported.isEmpty());
+    }
+
+    /**
+     * Description : Test the sampled flag and trace id of an incoming traceparent header are followed.
+     */
+    @Test
+    void testTraceparentIsFollowed() {
+        Tracer sampleNone = new Tracer(exported::add, 0.0, () -> 0.0);
+
+        try (Span root = sampleNone.startTrace("GET", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")) {
+            assertTrue(root.isSampled());
+            assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", root.getTraceId());
+            assertEquals("00f067aa0ba902b7", root.getParentSpanId());
+        }
+        assertFalse(sampleAll.startTrace("GET", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00").isSampled());
+        assertTrue(sampleAll.startTrace("GET", "not-a-traceparent").isSampled());
+    }
+
+    /**
+     * Description : Test the current span is carried over to work run on another thread.
+     */
+    @Test
+    void testDecoratorPropagatesSpan() throws Exception {
+        try (Span root = sampleAll.startTrace("GET", null)) {
+            Thread thread = new Thread(sampleAll.decorate(() -> sampleAll.startSpan("repository").close()));
+            thread.start();
+            thread.join();
+            assertEquals(root.getSpanId(), exported.get(0).getParentSpanId());
+        }
+    }
+
+    /**
+     * Description : Test spans are written as one JSON object per line.
+     */
+    @Test
+    void testSpanJson() {
+        try (Span root = sampleAll.startTrace("GET /api/v1/postcodes", null)) {
+            root.tag("http.target", "/api/v1/postcodes?suburbName=\"X\"");
+        }
+
+        String json = FileSpanExporter.toJson(exported.get(0));
+
+        assertTrue(json.startsWith("{\"traceId\":\"" + exported.get(0).getTraceId() + "\""));
+        assertTrue(json.contains("\"name\":\"GET /api/v1/postcodes\""));
+        assertTrue(json.contains("\"http.target\":\"/api/v1/postcodes?suburbName=\\\"X\\\"\""));
+        assertFalse(json.contains("parentSpanId"));
+    }
+}
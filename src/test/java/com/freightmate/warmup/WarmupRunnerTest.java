@@ -0,0 +1,161 @@
+package com.freightmate.warmup;
+
+import com.freightmate.dto.DatasetReloadReport;
+import com.freightmate.dto.StartupPhaseReport;
+import com.freightmate.lookup.SuburbPostcodeIndex;
+import com.freightmate.lookup.SuburbPostcodeLookup;
+import com.freightmate.lookup.SuburbPostcodeLookupLoader;
+import com.freightmate.repository.SuburbPostcodeRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.net.InetSocketAddress;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Hrishikesh.Lotekar
+ * @implNote WarmupRunnerTest Test Class for the startup warm-up
+ */
+class WarmupRunnerTest {
+
+    /**
+     * Description : Test every phase runs and is recorded on the timeline while readiness refuses traffic, with the
+     *    synthetic lookups sent over HTTP to every lookup endpoint in every format.
+     */
+    @Test
+    void testRunsEveryPhaseBeforeReady() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        SuburbPostcodeLookup suburbPostcodeLookup = new SuburbPostcodeLookup();
+        SuburbPostcodeLookupLoader suburbPostcodeLookupLoader = mock(SuburbPostcodeLookupLoader.class);
+        when(suburbPostcodeLookupLoader.preload()).thenAnswer(invocation -> {
+            suburbPostcodeLookup.replace(SuburbPostcodeIndex.builder().add("DABEE, NSW", 2849).add("RYLSTONE, NSW", 2849).build());
+            return CompletableFuture.completedFuture(DatasetReloadReport.builder().currentRows(2).build());
+        });
+
+        Set<String> endpoints = ConcurrentHashMap.newKeySet();
+        Set<String> formats = ConcurrentHashMap.newKeySet();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            endpoints.add(exchange.getRequestURI().getPath().replaceAll("/suburbs/\\d+", "/suburbs/{postcode}"));
+            formats.add(exchange.getRequestHeaders().getFirst("Accept"));
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+
+        Cache cache = mock(Cache.class);
+        StartupTimeline startupTimeline = new StartupTimeline(System.currentTimeMillis() - 1000);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        WarmupRunner warmupRunner = new WarmupRunner(dataSource, suburbPostcodeLookupLoader, suburbPostcodeLookup,
+                new MockEnvironment().withProperty("local.server.port", String.valueOf(server.getAddress().getPort())),
+                entityManagerFactory(cache), startupTimeline, eventPublisher, true, 3, 20, 0.5, 10.0, 2, 5000);
+
+        try {
+            warmupRunner.run(new DefaultApplicationArguments());
+        } finally {
+            server.stop(0);
+        }
+
+        verify(eventPublisher).publishEvent(argThat((ApplicationEvent event) -> event instanceof AvailabilityChangeEvent<?> change
+                && change.getState() == ReadinessState.REFUSING_TRAFFIC));
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        assertEquals(Set.of("/api/v1/suburbs/{postcode}", "/api/v1/postcodes",
+                "/api/v1/async/suburbs/{postcode}", "/api/v1/async/postcodes"), endpoints);
+        assertEquals(Set.of("application/json", "application/cbor", "application/x-jackson-smile"), formats);
+        verify(cache).evictQueryRegion(SuburbPostcodeRepository.LOOKUP_CACHE_REGION);
+
+        List<StartupPhaseReport> phases = startupTimeline.getPhases();
+        assertEquals(List.of("context", "connections", "lookup-index", "synthetic-traffic"),
+                phases.stream().map(StartupPhaseReport::getPhase).toList());
+        assertTrue(phases.get(0).getDurationMillis() >= 1000);
+        assertEquals("3 connections", phases.get(1).getDetail());
+        assertEquals("2 rows", phases.get(2).getDetail());
+        assertTrue(phases.get(3).getDetail().startsWith("3 rounds, stable"));
+        assertFalse(phases.get(3).getDetail().contains("failed"));
+        assertEquals(-1, startupTimeline.getReadyOffsetMillis());
+    }
+
+    /**
+     * Description : Test the synthetic traffic is skipped without a web server to send it to.
+     */
+    @Test
+    void testSkipsSyntheticTrafficWithoutWebServer() {
+        SuburbPostcodeLookupLoader suburbPostcodeLookupLoader = mock(SuburbPostcodeLookupLoader.class);
+        when(suburbPostcodeLookupLoader.preload()).thenReturn(CompletableFuture.completedFuture(null));
+        Cache cache = mock(Cache.class);
+
+        StartupTimeline startupTimeline = new StartupTimeline();
+        WarmupRunner warmupRunner = new WarmupRunner(mock(DataSource.class), suburbPostcodeLookupLoader,
+                new SuburbPostcodeLookup(), new MockEnvironment(), entityManagerFactory(cache), startupTimeline,
+                mock(ApplicationEventPublisher.class), true, 0, 10, 0.1, 10.0, 1, 5000);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        assertEquals("skipped: no web server", startupTimeline.getPhases().get(3).getDetail());
+        verifyNoInteractions(cache);
+    }
+
+    /**
+     * Description : Test a failing phase is recorded and the remaining phases still run.
+     */
+    @Test
+    void testFailingPhaseDoesNotStopStartup() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new java.sql.SQLException("Connection refused"));
+        SuburbPostcodeLookupLoader suburbPostcodeLookupLoader = mock(SuburbPostcodeLookupLoader.class);
+        when(suburbPostcodeLookupLoader.preload()).thenReturn(CompletableFuture.completedFuture(null));
+
+        StartupTimeline startupTimeline = new StartupTimeline();
+        WarmupRunner warmupRunner = new WarmupRunner(dataSource, suburbPostcodeLookupLoader, new SuburbPostcodeLookup(),
+                new MockEnvironment(), entityManagerFactory(mock(Cache.class)), startupTimeline, mock(ApplicationEventPublisher.class),
+                true, 2, 10, 0.1, 10.0, 1, 5000);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        List<StartupPhaseReport> phases = startupTimeline.getPhases();
+        assertEquals(4, phases.size());
+        assertTrue(phases.get(1).getDetail().startsWith("failed: Could not open connection 1"));
+        assertEquals("not loaded", phases.get(2).getDetail());
+    }
+
+    /**
+     * Description : Test latency counts as stable only once enough rounds in a row stay within the tolerance.
+     */
+    @Test
+    void testLatencyStability() {
+        assertFalse(WarmupRunner.isStable(List.of(100.0, 95.0), 0.1, 2));
+        assertFalse(WarmupRunner.isStable(List.of(400.0, 100.0, 95.0), 0.1, 2));
+        assertTrue(WarmupRunner.isStable(List.of(400.0, 100.0, 95.0, 99.0), 0.1, 2));
+        assertFalse(WarmupRunner.isStable(List.of(400.0, 100.0, 95.0, 60.0), 0.1, 2));
+    }
+
+    private static EntityManagerFactory entityManagerFactory(Cache cache) {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        return entityManagerFactory;
+    }
+}